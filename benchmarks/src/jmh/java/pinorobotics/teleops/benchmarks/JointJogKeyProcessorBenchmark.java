@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import pinorobotics.teleops.app.keyprocessors.JointJogKeyProcessor;
+import pinorobotics.teleops.impl.TeleopsClientImpl;
+
+/**
+ * Cost of processing single jog key press, from the key code down to the submitted message.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+@State(Scope.Thread)
+public class JointJogKeyProcessorBenchmark {
+
+    @Param({"6", "7", "12"})
+    private int numOfJoints;
+
+    private TeleopsClientImpl client;
+    private JointJogKeyProcessor processor;
+    private int key;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> joints = IntStream.range(0, numOfJoints).mapToObj(i -> "joint" + i).toList();
+        client =
+                new TeleopsClientImpl(
+                        new StubRosClient().create(), "base_link", joints, "/twist", "/jog");
+        processor = new JointJogKeyProcessor(client, joints);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Benchmark
+    public boolean process() {
+        // cycle through keys of the first 6 joints
+        key = (key + 1) % 6;
+        return processor.process('0' + key);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import id.jros2messages.sensor_msgs.JointStateMessage;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import pinorobotics.teleops.JointStateSnapshot;
+import pinorobotics.teleops.impl.JointStateMonitorImpl;
+
+/**
+ * Cost of updating {@link JointStateMonitorImpl} with the new joint state and reading it, while
+ * both happen concurrently.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+@State(Scope.Group)
+public class JointStateMonitorBenchmark {
+
+    @Param({"7", "12", "48"})
+    private int numOfJoints;
+
+    private JointStateMonitorImpl monitor;
+    private JointStateMessage message;
+
+    @State(Scope.Thread)
+    public static class Reader {
+        private JointStateSnapshot snapshot;
+
+        @Setup(Level.Trial)
+        public void setup(JointStateMonitorBenchmark benchmark) {
+            snapshot = new JointStateSnapshot(benchmark.numOfJoints);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> joints = IntStream.range(0, numOfJoints).mapToObj(i -> "joint" + i).toList();
+        monitor = new JointStateMonitorImpl(joints);
+        var values = IntStream.range(0, numOfJoints).mapToDouble(i -> i).toArray();
+        message =
+                new JointStateMessage()
+                        .withName(joints.toArray(new String[0]))
+                        .withPosition(values)
+                        .withVelocity(values)
+                        .withEffort(values);
+        monitor.update(message);
+    }
+
+    @Benchmark
+    @Group("monitor")
+    public void update() {
+        monitor.update(message);
+    }
+
+    @Benchmark
+    @Group("monitor")
+    public boolean read(Reader reader) {
+        return monitor.read(reader.snapshot);
+    }
+}
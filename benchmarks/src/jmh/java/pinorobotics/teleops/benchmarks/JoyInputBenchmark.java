@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import pinorobotics.teleops.JoyMapping;
+import pinorobotics.teleops.impl.JoyInputImpl;
+import pinorobotics.teleops.impl.TeleopsClientImpl;
+import pinorobotics.teleops.messages.JoyMessage;
+
+/**
+ * Cost of processing single joystick message, from the message down to the submitted command.
+ *
+ * <p>Synthetic messages imitate gamepad which is moved with the sticks, switched to jog mode and
+ * released.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+@State(Scope.Thread)
+public class JoyInputBenchmark {
+    private static final int NUM_OF_JOINTS = 6;
+
+    private TeleopsClientImpl client;
+    private JoyInputImpl input;
+    private JoyMessage[] messages;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> joints = IntStream.range(0, NUM_OF_JOINTS).mapToObj(i -> "joint" + i).toList();
+        client =
+                new TeleopsClientImpl(
+                        new StubRosClient().create(), "base_link", joints, "/twist", "/jog");
+        input = new JoyInputImpl(client, new JoyMapping(NUM_OF_JOINTS, 1, 1, 1));
+        messages = new JoyMessage[100];
+        for (int i = 0; i < messages.length; i++) {
+            var value = (float) Math.sin(i * Math.PI / 25);
+            var isJogMode = i / 25 % 2 == 1;
+            messages[i] =
+                    new JoyMessage()
+                            .withAxes(value, -value, 0, value / 2, 0.05f, 0, 0, 0)
+                            .withButtons(0, 0, 0, 0, 0, isJogMode ? 1 : 0, 0, 0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        input.close();
+        client.close();
+    }
+
+    @Benchmark
+    public void process() {
+        input.process(messages[next]);
+        next = (next + 1) % messages.length;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import pinorobotics.jros2moveit.JRos2MoveItServoClient.CommandType;
+import pinorobotics.teleops.impl.MoveItServoControl;
+
+/**
+ * Servo which accepts all the requests immediately.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class NoopServoControl implements MoveItServoControl {
+
+    @Override
+    public void startServo() {}
+
+    @Override
+    public void switchCommandType(CommandType commandType) {}
+
+    @Override
+    public void close() {}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * {@link TeleopsClient} which does not publish anything, used to measure overhead of the clients
+ * which wrap it.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class NoopTeleopsClient implements TeleopsClient {
+    private Blackhole blackhole;
+
+    public NoopTeleopsClient(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        blackhole.consume(velX);
+        blackhole.consume(angVelZ);
+    }
+
+    @Override
+    public void move(double... velocities) {
+        blackhole.consume(velocities);
+    }
+
+    @Override
+    public void jog(int jointIndex, double velocity) {
+        blackhole.consume(jointIndex);
+        blackhole.consume(velocity);
+    }
+
+    @Override
+    public void jog(int[] jointIndices, double[] velocities) {
+        blackhole.consume(jointIndices);
+        blackhole.consume(velocities);
+    }
+
+    @Override
+    public void close() {}
+}
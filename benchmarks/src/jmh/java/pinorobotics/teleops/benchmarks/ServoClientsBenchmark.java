@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.impl.HumbleMoveItServoTeleopsClient;
+import pinorobotics.teleops.impl.JazzyMoveItServoTeleopsClient;
+
+/**
+ * Per call overhead which MoveIt Servo clients add on top of the client they wrap, once servo is
+ * started and command type is selected.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+@State(Scope.Thread)
+public class ServoClientsBenchmark {
+
+    private TeleopsClient noop;
+    private TeleopsClient humble;
+    private TeleopsClient jazzy;
+    private double[] velocities = {0, 1, 0, 0, 0, 0};
+
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        noop = new NoopTeleopsClient(blackhole);
+        humble = new HumbleMoveItServoTeleopsClient(noop, new NoopServoControl(), true);
+        jazzy = new JazzyMoveItServoTeleopsClient(noop, new NoopServoControl());
+    }
+
+    @Benchmark
+    public void baselineTwist() {
+        noop.move(1, 0, 0);
+    }
+
+    @Benchmark
+    public void humbleTwist() {
+        humble.move(1, 0, 0);
+    }
+
+    @Benchmark
+    public void humbleJog() {
+        humble.move(velocities);
+    }
+
+    @Benchmark
+    public void jazzyTwist() {
+        jazzy.move(1, 0, 0);
+    }
+
+    @Benchmark
+    public void jazzyJog() {
+        jazzy.move(velocities);
+    }
+}
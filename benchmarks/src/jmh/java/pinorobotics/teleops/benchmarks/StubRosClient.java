@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import id.jrosclient.JRosClient;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stub of {@link JRosClient} which consumes all published messages without sending them
+ * anywhere.
+ *
+ * <p>Messages are consumed one by one (as ROS transport does) so that publishers behave same way as
+ * with real transport.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class StubRosClient {
+
+    private LongAdder consumed = new LongAdder();
+
+    public JRosClient create() {
+        return (JRosClient)
+                Proxy.newProxyInstance(
+                        JRosClient.class.getClassLoader(),
+                        new Class<?>[] {JRosClient.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "publish" -> subscribe((Publisher<?>) args[0]);
+                                case "hashCode" -> {
+                                    return System.identityHashCode(proxy);
+                                }
+                                case "equals" -> {
+                                    return proxy == args[0];
+                                }
+                                case "toString" -> {
+                                    return StubRosClient.class.getSimpleName();
+                                }
+                                default -> {}
+                            }
+                            return null;
+                        });
+    }
+
+    public long getConsumedCount() {
+        return consumed.sum();
+    }
+
+    private <T> void subscribe(Publisher<T> publisher) {
+        publisher.subscribe(
+                new Subscriber<T>() {
+                    private Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(T item) {
+                        consumed.increment();
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {}
+
+                    @Override
+                    public void onComplete() {}
+                });
+    }
+}
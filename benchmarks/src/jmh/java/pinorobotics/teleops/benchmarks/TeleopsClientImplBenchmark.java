@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.benchmarks;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import pinorobotics.teleops.impl.TeleopsClientImpl;
+
+/**
+ * Cost of publishing single command with {@link TeleopsClientImpl}.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+@State(Scope.Thread)
+public class TeleopsClientImplBenchmark {
+
+    @Param({"6", "7", "12", "24"})
+    private int numOfJoints;
+
+    private TeleopsClientImpl client;
+    private double[] velocities;
+    private int[] sparseIndices = {0, 2};
+    private double[] sparseVelocities = {1, -1};
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> joints = IntStream.range(0, numOfJoints).mapToObj(i -> "joint" + i).toList();
+        client =
+                new TeleopsClientImpl(
+                        new StubRosClient().create(), "base_link", joints, "/twist", "/jog");
+        velocities = new double[numOfJoints];
+        velocities[numOfJoints / 2] = 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Benchmark
+    public void moveTwist() {
+        client.move(1, 0, 0);
+    }
+
+    @Benchmark
+    public void moveJog() {
+        client.move(velocities);
+    }
+
+    @Benchmark
+    public void jog() {
+        client.jog(numOfJoints / 2, 1);
+    }
+
+    @Benchmark
+    public void jogSparse() {
+        client.jog(sparseIndices, sparseVelocities);
+    }
+}
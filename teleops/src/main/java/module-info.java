@@ -40,4 +40,8 @@ module teleops {
     requires jros2moveit;
 
     exports pinorobotics.teleops;
+    exports pinorobotics.teleops.messages;
+
+    // message classes are accessed by the serializer through reflection
+    opens pinorobotics.teleops.messages;
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * Statistics of {@link TeleopsArbiter}
+ *
+ * @param forwarded number of commands forwarded to the client
+ * @param switches number of times the active source changed (including the changes to and from no
+ *     active source)
+ * @param forwardLatency time from receiving the command from the source until it was forwarded
+ * @param switchLatency time from the moment when the active source had to change (command of the
+ *     source with higher priority received or timeout of the active source expired) until the
+ *     command of the new source (or zero velocity command) was forwarded
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record ArbiterStats(
+        long forwarded, long switches, LatencyStats forwardLatency, LatencyStats switchLatency) {}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import id.xfunction.Preconditions;
+import java.time.Duration;
+
+/**
+ * Backpressure settings of {@link BoundedTeleopsClient}
+ *
+ * @param policy what to do when the queue of pending commands is full
+ * @param capacity maximum number of pending commands per topic (ignored for {@link
+ *     OverflowPolicy#COALESCE_TO_LATEST} which always keeps single pending command)
+ * @param timeout how long to block the caller (used only with {@link
+ *     OverflowPolicy#BLOCK_WITH_TIMEOUT})
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record BackpressureSettings(OverflowPolicy policy, int capacity, Duration timeout) {
+
+    public BackpressureSettings {
+        Preconditions.notNull(policy, "Overflow policy is required");
+        Preconditions.isTrue(capacity > 0, "Capacity must be positive");
+        Preconditions.notNull(timeout, "Timeout is required");
+    }
+
+    public BackpressureSettings(OverflowPolicy policy, int capacity) {
+        this(policy, capacity, Duration.ZERO);
+    }
+}
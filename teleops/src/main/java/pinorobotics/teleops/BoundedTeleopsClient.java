@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * {@link TeleopsClient} which never lets the commands pile up when ROS transport stalls.
+ *
+ * <p>Commands are put into the bounded queue (one per topic) and submitted to ROS transport by a
+ * separate thread, only when transport finished processing the previous command. What happens when
+ * the queue is full is defined by {@link OverflowPolicy}.
+ *
+ * @see TeleopsClientFactory#createClient(id.jrosclient.JRosClient, String, java.util.List, String,
+ *     String, BackpressureSettings)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface BoundedTeleopsClient extends TeleopsClient {
+
+    /** Counters for all the commands issued through this client */
+    SubmissionStats getSubmissionStats();
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * {@link TeleopsClient} which does not publish the same command again and again.
+ *
+ * <p>Command which differs from the previous one is published immediately. Identical consecutive
+ * commands are suppressed, except for the keepalive ones which are published with the fixed rate so
+ * that the receiver (for example MoveIt Servo) does not stop the robot. There is no timer:
+ * keepalive is published only when the client receives the command.
+ *
+ * @see TeleopsClientFactory#createDeduplicatingClient(TeleopsClient, double)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface DeduplicatingTeleopsClient extends TeleopsClient {
+
+    /** Number of commands published since the client was created */
+    long getPublishedCount();
+
+    /** Number of commands which were suppressed since the client was created */
+    long getSuppressedCount();
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import id.jrosclient.JRosClient;
+import id.xfunction.Preconditions;
+
+/**
+ * Robot which receives commands from {@link FanOutTeleopsClient}
+ *
+ * @param client ROS client to publish commands with (targets may share the same client)
+ * @param twistTopicName see {@link TeleopsClientFactory#DEFAULT_TWIST_TOPIC_NAME}
+ * @param jogTopicName see {@link TeleopsClientFactory#DEFAULT_JOG_TOPIC_NAME}
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record FanOutTarget(JRosClient client, String twistTopicName, String jogTopicName) {
+
+    public FanOutTarget {
+        Preconditions.notNull(client, "ROS client is required");
+        Preconditions.notNull(twistTopicName, "Twist topic name is required");
+        Preconditions.notNull(jogTopicName, "Jog topic name is required");
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * Publishing statistics of a single {@link FanOutTarget}
+ *
+ * @param target target which statistics belong to
+ * @param published number of commands published to the target
+ * @param superseded number of commands replaced by the newer ones before the target could publish
+ *     them (target is slower than the rate of the commands)
+ * @param publishLatency time from receiving the command until it was handed over to ROS transport
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record FanOutTargetStats(
+        FanOutTarget target, long published, long superseded, LatencyStats publishLatency) {}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.util.List;
+
+/**
+ * {@link TeleopsClient} which sends every command to several robots at once.
+ *
+ * <p>Each command is built once and published to all the targets in parallel. Every target has its
+ * own publishing thread and keeps only the latest command, so slow target does not delay the others
+ * (it skips the commands it could not publish in time instead).
+ *
+ * @see TeleopsClientFactory#createFanOutClient(String, List, List)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface FanOutTeleopsClient extends TeleopsClient {
+
+    /** Statistics of each target, in the same order as targets were given */
+    List<FanOutTargetStats> getTargetStats();
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.util.List;
+
+/**
+ * Keeps the latest state of the robot joints received from the joint states topic.
+ *
+ * <p>State is updated from the ROS subscriber thread and can be read from any number of threads.
+ * Readers never block the updates and reading does not allocate, so it is cheap enough to be called
+ * on every control loop iteration.
+ *
+ * @see TeleopsUtils#createJointStateMonitor(id.jrosclient.JRosClient, String, List)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface JointStateMonitor extends AutoCloseable {
+
+    /** Joints which are monitored, in the order they appear in {@link JointStateSnapshot} */
+    List<String> getJoints();
+
+    /**
+     * Copy the latest joint state to the given snapshot.
+     *
+     * @param snapshot created for the same number of joints as {@link #getJoints()}
+     * @return false if no joint state was received yet (snapshot is not modified then)
+     */
+    boolean read(JointStateSnapshot snapshot);
+
+    /** Stop monitoring */
+    @Override
+    void close();
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * Reusable mutable holder of the joint state read from {@link JointStateMonitor}.
+ *
+ * <p>Values are stored in the same order as {@link JointStateMonitor#getJoints()}. Returned arrays
+ * are owned by the snapshot and overwritten by the next {@link JointStateMonitor#read(
+ * JointStateSnapshot)}. Not thread safe.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class JointStateSnapshot {
+    private final double[] positions;
+    private final double[] velocities;
+    private final double[] efforts;
+    private long stampNanos;
+    private long version;
+
+    public JointStateSnapshot(int numOfJoints) {
+        positions = new double[numOfJoints];
+        velocities = new double[numOfJoints];
+        efforts = new double[numOfJoints];
+    }
+
+    /** Joint positions (rad or m) */
+    public double[] positions() {
+        return positions;
+    }
+
+    /** Joint velocities (rad/s or m/s) */
+    public double[] velocities() {
+        return velocities;
+    }
+
+    /** Joint efforts (Nm or N) */
+    public double[] efforts() {
+        return efforts;
+    }
+
+    /** Stamp of the latest joint state message (nanoseconds since epoch) */
+    public long stampNanos() {
+        return stampNanos;
+    }
+
+    public void setStampNanos(long stampNanos) {
+        this.stampNanos = stampNanos;
+    }
+
+    /**
+     * Version of the state, it changes every time monitor receives new joint state so it can be
+     * used to detect updates
+     */
+    public long version() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /** Number of joints in the snapshot */
+    public int size() {
+        return positions.length;
+    }
+
+    public void copyFrom(JointStateSnapshot other) {
+        System.arraycopy(other.positions, 0, positions, 0, positions.length);
+        System.arraycopy(other.velocities, 0, velocities, 0, velocities.length);
+        System.arraycopy(other.efforts, 0, efforts, 0, efforts.length);
+        stampNanos = other.stampNanos;
+        version = other.version;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import pinorobotics.teleops.messages.JoyMessage;
+
+/**
+ * Joystick input source which translates {@link JoyMessage} messages into the movement commands of
+ * {@link TeleopsClient} according to {@link JoyMapping}.
+ *
+ * <p>Processing of the messages does not allocate, so joystick can be published with high rates
+ * (500Hz and more).
+ *
+ * @see TeleopsUtils#createJoyInput(id.jrosclient.JRosClient, String, JoyMapping, TeleopsClient)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface JoyInput extends AutoCloseable {
+
+    /**
+     * Process joystick message. Messages received from the joystick topic are processed
+     * automatically, this method allows to feed messages from other sources.
+     */
+    void process(JoyMessage message);
+
+    /** Number of commands sent to the client so far */
+    long getCommandCount();
+
+    /**
+     * Stop receiving joystick messages. If the robot was moving, stop command is sent to the
+     * client.
+     */
+    @Override
+    void close();
+}
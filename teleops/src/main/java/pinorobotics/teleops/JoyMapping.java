@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import id.xfunction.Preconditions;
+import java.util.Arrays;
+
+/**
+ * Mapping of the joystick axes and buttons to the movement commands (see {@link
+ * TeleopsUtils#createJoyInput})
+ *
+ * <p>Axis values (-1..1) inside the deadzone are treated as 0, values outside of it are rescaled to
+ * start from 0 at the deadzone boundary and then multiplied by the axis scale. Negative scale
+ * inverts the axis.
+ *
+ * <p>Twist and jog commands are never sent together: when jog mode button is pressed axes are
+ * mapped to the joints, otherwise to the twist velocities. Without jog mode button, jog axes are
+ * used only while all twist axes are inside the deadzone.
+ *
+ * @param twistAxes joystick axis for each of 3 linear and 3 angular velocities, -1 if not mapped
+ * @param twistScales scale for each of 3 linear and 3 angular velocities
+ * @param jogAxes joystick axis for each joint, -1 if not mapped
+ * @param jogScales scale for each joint
+ * @param deadzone deadzone of all axes (0..1)
+ * @param enableButton button which must be held to send any commands (deadman switch), -1 if not
+ *     required
+ * @param jogModeButton button which switches axes to jog the joints, -1 if not used
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record JoyMapping(
+        int[] twistAxes,
+        double[] twistScales,
+        int[] jogAxes,
+        double[] jogScales,
+        double deadzone,
+        int enableButton,
+        int jogModeButton) {
+
+    /** Axes of the left and right sticks (as reported by ROS joy_node for most gamepads) */
+    private static final int[] STICK_AXES = {0, 1, 3, 4};
+
+    public JoyMapping {
+        Preconditions.equals(6, twistAxes.length, "Expected 6 twist axes");
+        Preconditions.equals(6, twistScales.length, "Expected 6 twist scales");
+        Preconditions.equals(
+                jogAxes.length,
+                jogScales.length,
+                "Number of jog axes and jog scales does not match");
+        Preconditions.isTrue(deadzone >= 0 && deadzone < 1, "Deadzone must be in range [0..1)");
+        twistAxes = twistAxes.clone();
+        twistScales = twistScales.clone();
+        jogAxes = jogAxes.clone();
+        jogScales = jogScales.clone();
+        for (var axis : twistAxes) Preconditions.isTrue(axis >= -1, "Invalid axis " + axis);
+        for (var axis : jogAxes) Preconditions.isTrue(axis >= -1, "Invalid axis " + axis);
+    }
+
+    /**
+     * Default gamepad mapping:
+     *
+     * <ul>
+     *   <li>left stick - move along x (up/down) and y (left/right) axes
+     *   <li>right stick - move along z axis (up/down) and rotate around z axis (left/right)
+     *   <li>right bumper (button 5) - jog mode: sticks jog first 4 joints
+     * </ul>
+     */
+    public JoyMapping(int numOfJoints, double linearScale, double angularScale, double jogScale) {
+        this(
+                new int[] {1, 0, 4, -1, -1, 3},
+                new double[] {
+                    linearScale, linearScale, linearScale, angularScale, angularScale, angularScale
+                },
+                defaultJogAxes(numOfJoints),
+                filled(numOfJoints, jogScale),
+                0.1,
+                -1,
+                5);
+    }
+
+    private static int[] defaultJogAxes(int numOfJoints) {
+        var axes = new int[numOfJoints];
+        Arrays.fill(axes, -1);
+        System.arraycopy(STICK_AXES, 0, axes, 0, Math.min(numOfJoints, STICK_AXES.length));
+        return axes;
+    }
+
+    private static double[] filled(int size, double value) {
+        var array = new double[size];
+        Arrays.fill(array, value);
+        return array;
+    }
+
+    @Override
+    public String toString() {
+        return "JoyMapping[twistAxes="
+                + Arrays.toString(twistAxes)
+                + ", twistScales="
+                + Arrays.toString(twistScales)
+                + ", jogAxes="
+                + Arrays.toString(jogAxes)
+                + ", jogScales="
+                + Arrays.toString(jogScales)
+                + ", deadzone="
+                + deadzone
+                + ", enableButton="
+                + enableButton
+                + ", jogModeButton="
+                + jogModeButton
+                + "]";
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.time.Duration;
+
+/**
+ * Latency distribution recorded by {@link MeteredTeleopsClient}
+ *
+ * <p>Percentiles are approximate: they are reported as an upper bound of the histogram bucket where
+ * they fall into (buckets are within 25% of each other).
+ *
+ * @param count number of recorded calls
+ * @param mean mean latency
+ * @param p50 50th percentile
+ * @param p99 99th percentile
+ * @param max maximum latency
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record LatencyStats(long count, Duration mean, Duration p50, Duration p99, Duration max) {
+
+    public static final LatencyStats EMPTY =
+            new LatencyStats(0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    @Override
+    public String toString() {
+        return String.format(
+                "count=%d mean=%dus p50=%dus p99=%dus max=%dus",
+                count, toMicros(mean), toMicros(p50), toMicros(p99), toMicros(max));
+    }
+
+    private static long toMicros(Duration d) {
+        return d.toNanos() / 1000;
+    }
+}
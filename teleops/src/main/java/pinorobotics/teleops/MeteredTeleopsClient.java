@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * {@link TeleopsClient} which collects metrics of the commands passing through it.
+ *
+ * <p>Metrics are recorded without locks so it is safe to use it on the movement path.
+ *
+ * @see TeleopsClientFactory#createMeteredClient(TeleopsClient, java.util.Optional)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface MeteredTeleopsClient extends TeleopsClient {
+
+    /** Metrics collected since the client was created */
+    TeleopsMetrics getMetrics();
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * Defines what {@link BoundedTeleopsClient} does with the new command when ROS transport does not
+ * keep up and the queue of pending commands is full.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public enum OverflowPolicy {
+    /** Discard the oldest pending command and queue the new one */
+    DROP_OLDEST,
+
+    /**
+     * Replace pending command with the new one, so that at most one command is pending at any time
+     * and it is always the latest one
+     */
+    COALESCE_TO_LATEST,
+
+    /**
+     * Block the caller until there is space in the queue or until the timeout expires, in which
+     * case the new command is discarded
+     */
+    BLOCK_WITH_TIMEOUT
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.time.Duration;
+import java.util.stream.LongStream;
+
+/**
+ * Result of streaming velocity profile with {@link TeleopsClient}
+ *
+ * @param deviationNanos for each sample, difference (nanoseconds) between the time when it was
+ *     actually published and the time when it was scheduled to be published. Samples which were not
+ *     published (profile was cancelled) are not included.
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record ProfileReport(long[] deviationNanos) {
+
+    public Duration maxDeviation() {
+        return Duration.ofNanos(LongStream.of(deviationNanos).max().orElse(0));
+    }
+
+    public Duration meanDeviation() {
+        return Duration.ofNanos((long) LongStream.of(deviationNanos).average().orElse(0));
+    }
+
+    @Override
+    public String toString() {
+        return "ProfileReport[samples=%d, meanDeviation=%s, maxDeviation=%s]"
+                .formatted(deviationNanos.length, meanDeviation(), maxDeviation());
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Result of replaying the recorded teleop session
+ *
+ * @param recordingStart time when the session was recorded
+ * @param replayedCount number of commands sent to the client
+ * @param meanDeviation mean difference between the time when command was actually sent and the time
+ *     when it was scheduled to be sent
+ * @param maxDeviation maximum difference between the time when command was actually sent and the
+ *     time when it was scheduled to be sent
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record ReplayReport(
+        Instant recordingStart,
+        long replayedCount,
+        Duration meanDeviation,
+        Duration maxDeviation) {}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import id.xfunction.Preconditions;
+import java.time.Duration;
+
+/**
+ * Settings of {@link ServoFeedbackTeleopsClient}
+ *
+ * @param statusTopicName topic where MoveIt Servo publishes its status
+ * @param decelerationScale velocities are multiplied by this scale while MoveIt Servo is
+ *     decelerating (see {@link ServoStatus#isDecelerating()})
+ * @param haltedPublishPeriod while MoveIt Servo is halted (see {@link ServoStatus#isHalted()})
+ *     commands are published at most once per this period, zero velocity commands are always
+ *     published
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record ServoFeedbackSettings(
+        String statusTopicName, double decelerationScale, Duration haltedPublishPeriod) {
+
+    /** Default status topic of MoveIt Servo */
+    public static final String DEFAULT_STATUS_TOPIC_NAME = "/servo_node/status";
+
+    public ServoFeedbackSettings {
+        Preconditions.notNull(statusTopicName, "Status topic name is required");
+        Preconditions.isTrue(
+                decelerationScale >= 0 && decelerationScale <= 1,
+                "Deceleration scale must be within [0, 1]");
+        Preconditions.isTrue(
+                !haltedPublishPeriod.isNegative(), "Halted publish period must not be negative");
+    }
+
+    /** Default status topic, deceleration scale 0.5 and single command per second while halted */
+    public ServoFeedbackSettings() {
+        this(DEFAULT_STATUS_TOPIC_NAME, 0.5, Duration.ofSeconds(1));
+    }
+}
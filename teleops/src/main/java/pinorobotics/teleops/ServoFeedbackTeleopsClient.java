@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * {@link TeleopsClient} which adapts the commands to the status reported by MoveIt Servo.
+ *
+ * <p>While MoveIt Servo is halted, the commands it would ignore anyway are not published (except
+ * the rare ones which let MoveIt Servo to check if the robot can move again), so they do not pile
+ * up in the transport. While MoveIt Servo decelerates near a singularity or a collision, velocities
+ * are scaled down.
+ *
+ * @see TeleopsClientFactory#createServoFeedbackClient(id.jros2client.JRos2Client,
+ *     id.jroscommon.RosRelease, TeleopsClient, ServoFeedbackSettings)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface ServoFeedbackTeleopsClient extends TeleopsClient {
+
+    /** Latest status reported by MoveIt Servo ({@link ServoStatus#NO_WARNING} until it reports) */
+    ServoStatus getServoStatus();
+
+    /**
+     * Process status reported by MoveIt Servo. Status received from the status topic is processed
+     * automatically, this method allows to feed status from other sources.
+     */
+    void onStatus(ServoStatus status);
+
+    /** Number of commands which were not published because MoveIt Servo was halted */
+    long getThrottledCount();
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import id.jroscommon.RosRelease;
+
+/**
+ * Status reported by MoveIt Servo
+ *
+ * @see ServoFeedbackTeleopsClient
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public enum ServoStatus {
+    INVALID,
+    NO_WARNING,
+    DECELERATE_FOR_APPROACHING_SINGULARITY,
+    HALT_FOR_SINGULARITY,
+    DECELERATE_FOR_LEAVING_SINGULARITY,
+    DECELERATE_FOR_COLLISION,
+    HALT_FOR_COLLISION,
+    JOINT_BOUND;
+
+    /** MoveIt Servo does not move the robot in this status */
+    public boolean isHalted() {
+        return this == HALT_FOR_SINGULARITY || this == HALT_FOR_COLLISION || this == JOINT_BOUND;
+    }
+
+    /** MoveIt Servo slows the robot down because it approaches a singularity or a collision */
+    public boolean isDecelerating() {
+        return this == DECELERATE_FOR_APPROACHING_SINGULARITY || this == DECELERATE_FOR_COLLISION;
+    }
+
+    /**
+     * Decode status code published by MoveIt Servo (numbering of the codes differs between ROS
+     * releases). Unknown codes are decoded as {@link #INVALID}.
+     */
+    public static ServoStatus fromCode(RosRelease rosRelease, int code) {
+        return switch (rosRelease) {
+            case ROS2_HUMBLE ->
+                    switch (code) {
+                        case 0 -> NO_WARNING;
+                        case 1 -> DECELERATE_FOR_APPROACHING_SINGULARITY;
+                        case 2 -> HALT_FOR_SINGULARITY;
+                        case 3 -> DECELERATE_FOR_COLLISION;
+                        case 4 -> HALT_FOR_COLLISION;
+                        case 5 -> JOINT_BOUND;
+                        case 6 -> DECELERATE_FOR_LEAVING_SINGULARITY;
+                        default -> INVALID;
+                    };
+            default ->
+                    switch (code) {
+                        case 0 -> NO_WARNING;
+                        case 1 -> DECELERATE_FOR_APPROACHING_SINGULARITY;
+                        case 2 -> HALT_FOR_SINGULARITY;
+                        case 3 -> DECELERATE_FOR_LEAVING_SINGULARITY;
+                        case 4 -> DECELERATE_FOR_COLLISION;
+                        case 5 -> HALT_FOR_COLLISION;
+                        case 6 -> JOINT_BOUND;
+                        default -> INVALID;
+                    };
+        };
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link TeleopsClient} which controls MoveIt Servo.
+ *
+ * @see TeleopsClientFactory#createClientForServo(id.jros2client.JRos2Client,
+ *     id.jroscommon.RosRelease, TeleopsClient)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface ServoTeleopsClient extends TeleopsClient {
+
+    /**
+     * Future which completes once MoveIt Servo is ready to accept the commands.
+     *
+     * <p>For ROS2 Humble it is when MoveIt Servo is started, for ROS2 Jazzy it is when MoveIt Servo
+     * is switched to the initial command type (if any). Future completes exceptionally if MoveIt
+     * Servo failed to get ready.
+     */
+    CompletableFuture<Void> getServoReady();
+}
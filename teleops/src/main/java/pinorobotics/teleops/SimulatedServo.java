@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import id.jros2client.JRos2Client;
+
+/**
+ * In-process stand-in for MoveIt Servo which allows to run and profile teleoperation without ROS.
+ *
+ * <p>Servo subscribes to the MoveIt Servo twist and jog topics (see {@link
+ * TeleopsClientFactory#DEFAULT_TWIST_TOPIC_NAME} and {@link
+ * TeleopsClientFactory#DEFAULT_JOG_TOPIC_NAME}) and integrates received velocities: jog commands
+ * move the joints, twist commands move the end effector pose. Joint states are published to {@link
+ * TeleopsUtils#DEFAULT_JOINT_STATES_TOPIC_NAME}. Same as MoveIt Servo, the motion stops if no
+ * commands are received for {@link #COMMAND_TIMEOUT_MILLIS}.
+ *
+ * <p>All topics are available only through {@link #getRosClient()}, use {@link
+ * TeleopsClientFactory#createClientForServo(SimulatedServo, TeleopsClient)} to answer MoveIt Servo
+ * service calls.
+ *
+ * @see TeleopsClientFactory#createSimulatedServo(id.jroscommon.RosRelease, java.util.List)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface SimulatedServo extends AutoCloseable {
+
+    /** Same as default incoming_command_timeout of MoveIt Servo */
+    long COMMAND_TIMEOUT_MILLIS = 100;
+
+    /**
+     * In-process ROS client connected to the servo topics. Only topic publishing and subscribing is
+     * supported.
+     */
+    JRos2Client getRosClient();
+
+    /** Current end effector pose: x, y, z, roll, pitch, yaw */
+    double[] getPose();
+
+    /** Current joint positions */
+    double[] getJointPositions();
+
+    SimulatedServoStats getStats();
+
+    @Override
+    void close();
+}
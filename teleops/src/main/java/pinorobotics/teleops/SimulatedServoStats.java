@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * Statistics of {@link SimulatedServo}
+ *
+ * @param twistCount number of twist commands applied
+ * @param jogCount number of jog commands applied
+ * @param ignoredCount number of commands ignored because servo was not started or was switched to
+ *     the other command type (same as MoveIt Servo does)
+ * @param serviceCallCount number of start and switch command type service calls
+ * @param commandLatency time from the command stamp until the command was received by the servo
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record SimulatedServoStats(
+        long twistCount,
+        long jogCount,
+        long ignoredCount,
+        long serviceCallCount,
+        LatencyStats commandLatency) {}
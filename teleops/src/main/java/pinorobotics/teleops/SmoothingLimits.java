@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import id.xfunction.Preconditions;
+import java.util.Arrays;
+
+/**
+ * Limits used to smooth the velocities (see {@link TeleopsClientFactory#createSmoothingClient(
+ * TeleopsClient, SmoothingLimits)})
+ *
+ * <p>Accelerations are in velocity units per second and jerks in velocity units per second squared.
+ * Jerk limit can be {@link Double#POSITIVE_INFINITY} to limit only the acceleration.
+ *
+ * @param twistAccelerations acceleration limits for 3 linear and 3 angular velocities
+ * @param twistJerks jerk limits for 3 linear and 3 angular velocities
+ * @param jointAccelerations acceleration limit for each joint
+ * @param jointJerks jerk limit for each joint
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record SmoothingLimits(
+        double[] twistAccelerations,
+        double[] twistJerks,
+        double[] jointAccelerations,
+        double[] jointJerks) {
+
+    public SmoothingLimits {
+        Preconditions.equals(6, twistAccelerations.length, "Expected 6 twist acceleration limits");
+        Preconditions.equals(6, twistJerks.length, "Expected 6 twist jerk limits");
+        Preconditions.equals(
+                jointAccelerations.length,
+                jointJerks.length,
+                "Number of joint acceleration and jerk limits does not match");
+        twistAccelerations = twistAccelerations.clone();
+        twistJerks = twistJerks.clone();
+        jointAccelerations = jointAccelerations.clone();
+        jointJerks = jointJerks.clone();
+        for (var limit : twistAccelerations) checkAcceleration(limit);
+        for (var limit : jointAccelerations) checkAcceleration(limit);
+        for (var limit : twistJerks) checkJerk(limit);
+        for (var limit : jointJerks) checkJerk(limit);
+    }
+
+    /** Same limits for all the axes and joints */
+    public SmoothingLimits(int numOfJoints, double acceleration, double jerk) {
+        this(
+                filled(6, acceleration),
+                filled(6, jerk),
+                filled(numOfJoints, acceleration),
+                filled(numOfJoints, jerk));
+    }
+
+    private static double[] filled(int size, double value) {
+        var array = new double[size];
+        Arrays.fill(array, value);
+        return array;
+    }
+
+    private static void checkAcceleration(double limit) {
+        Preconditions.isTrue(
+                limit > 0 && Double.isFinite(limit), "Acceleration limit must be positive");
+    }
+
+    private static void checkJerk(double limit) {
+        Preconditions.isTrue(limit > 0, "Jerk limit must be positive");
+    }
+
+    @Override
+    public String toString() {
+        return "SmoothingLimits[twistAccelerations="
+                + Arrays.toString(twistAccelerations)
+                + ", twistJerks="
+                + Arrays.toString(twistJerks)
+                + ", jointAccelerations="
+                + Arrays.toString(jointAccelerations)
+                + ", jointJerks="
+                + Arrays.toString(jointJerks)
+                + "]";
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.time.Duration;
+
+/**
+ * Publishing statistics of {@link StreamingTeleopsClient}
+ *
+ * @param publishedCount number of commands published so far
+ * @param requestedRate rate (Hz) requested by the user
+ * @param actualRate rate (Hz) achieved by the client
+ * @param meanJitter mean deviation of the actual publish time from the scheduled one
+ * @param maxJitter maximum deviation of the actual publish time from the scheduled one
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record StreamingStats(
+        long publishedCount,
+        double requestedRate,
+        double actualRate,
+        Duration meanJitter,
+        Duration maxJitter) {}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * {@link TeleopsClient} which publishes commands with the fixed rate.
+ *
+ * <p>Movement methods only update the latest command and return immediately. Separate scheduler
+ * thread keeps publishing the latest command with the configured frequency until the new command is
+ * received, so that the receiver (like MoveIt Servo) gets steady command stream which does not
+ * depend on how often user calls the client.
+ *
+ * @see TeleopsClientFactory#createStreamingClient(TeleopsClient, int, double)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface StreamingTeleopsClient extends TeleopsClient {
+
+    /** Rate and jitter which client achieved since it was created */
+    StreamingStats getStreamingStats();
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * Counters of {@link BoundedTeleopsClient}
+ *
+ * @param submitted number of commands handed over to ROS transport
+ * @param dropped number of commands discarded because the queue was full
+ * @param merged number of commands replaced by the newer ones before they were submitted
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record SubmissionStats(long submitted, long dropped, long merged) {
+
+    public SubmissionStats plus(SubmissionStats other) {
+        return new SubmissionStats(
+                submitted + other.submitted, dropped + other.dropped, merged + other.merged);
+    }
+}
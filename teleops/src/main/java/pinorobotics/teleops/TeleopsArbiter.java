@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Lets several sources of commands (keyboard, joystick, script, safety supervisor etc.) drive the
+ * same {@link TeleopsClient}.
+ *
+ * <p>Every source has the priority and the timeout. Source is active while its last command is not
+ * older than its timeout, and only the latest command of the active source with the highest
+ * priority is forwarded (sources with equal priority are ordered by the registration time). When
+ * the active source changes, the latest command of the new one is forwarded immediately. When no
+ * source is active anymore, the last forwarded command is sent again with zero velocities.
+ *
+ * <p>Sources never block each other: each source has its own mailbox and the commands are forwarded
+ * from the single arbiter thread.
+ *
+ * @see TeleopsClientFactory#createArbiter(TeleopsClient)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface TeleopsArbiter extends AutoCloseable {
+
+    /**
+     * Register new source of commands
+     *
+     * @param name name of the source which is used in the logs and in {@link #getActiveSource()}
+     * @param priority commands of the source with higher priority override the commands of the
+     *     sources with lower priority
+     * @param timeout how long the source stays active after its last command
+     * @return client which the source should use to send its commands, closing it unregisters the
+     *     source
+     */
+    TeleopsClient registerSource(String name, int priority, Duration timeout);
+
+    /** Name of the source whose commands are forwarded now */
+    Optional<String> getActiveSource();
+
+    ArbiterStats getStats();
+}
@@ -29,8 +29,26 @@ public interface TeleopsClient extends AutoCloseable {
     /**
      * Move robot in Cartesian space by publishing {@link TwistStampedMessage} with a given
      * velocities (m/s).
+     *
+     * <p>Angular velocities are set to zero (see {@link #moveTwist(double, double, double, double,
+     * double, double)})
      */
-    void move(double velX, double velY, double velZ);
+    default void move(double velX, double velY, double velZ) {
+        moveTwist(velX, velY, velZ, 0, 0, 0);
+    }
+
+    /**
+     * Move and rotate robot in Cartesian space by publishing {@link TwistStampedMessage} with a
+     * given linear (m/s) and angular (rad/s) velocities.
+     *
+     * <p>This method is not an overload of {@link #move(double...)} on purpose: otherwise jog
+     * commands for 6 DOF robots would be resolved to it.
+     *
+     * @throws UnsupportedOperationException if any of the angular velocities is not zero and the
+     *     client does not support them
+     */
+    void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ);
 
     /**
      * Move robot joints by publishing {@link JointJogMessage}
@@ -44,4 +62,39 @@ public interface TeleopsClient extends AutoCloseable {
      * joints available in the robot (in case number of joints is not known in advance)
      */
     void move(double... velocities);
+
+    /**
+     * Move single robot joint by publishing {@link JointJogMessage} which contains only this joint.
+     *
+     * <p>Unlike {@link #move(double...)} the cost of this command does not depend on the number of
+     * joints in the robot.
+     *
+     * <p>Default implementation delegates to {@link #jog(int[], double[])}.
+     *
+     * @param jointIndex index of the joint in the list of joints the client was created with
+     * @param velocity joint velocity
+     */
+    default void jog(int jointIndex, double velocity) {
+        jog(new int[] {jointIndex}, new double[] {velocity});
+    }
+
+    /**
+     * Move several robot joints by publishing {@link JointJogMessage} which contains only these
+     * joints.
+     *
+     * <p>Default implementation does not know the number of joints in the robot, which is needed to
+     * build dense {@link #move(double...)} command out of the sparse one, and so it is not
+     * supported. Clients which support sparse jog commands override it.
+     *
+     * @param jointIndices indices of the joints in the list of joints the client was created with
+     * @param velocities velocities of the joints, in the same order as jointIndices
+     * @see #jog(int, double)
+     * @throws UnsupportedOperationException if client does not support sparse jog commands
+     */
+    default void jog(int[] jointIndices, double[] velocities) {
+        throw new UnsupportedOperationException(
+                "Sparse jog commands are not supported by "
+                        + getClass().getName()
+                        + ", use move(double...) instead");
+    }
 }
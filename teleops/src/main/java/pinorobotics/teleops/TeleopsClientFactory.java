@@ -20,11 +20,27 @@ package pinorobotics.teleops;
 import id.jros2client.JRos2Client;
 import id.jrosclient.JRosClient;
 import id.jroscommon.RosRelease;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import pinorobotics.jros2moveit.JRos2MoveItFactory;
+import pinorobotics.teleops.impl.DeduplicatingTeleopsClientImpl;
+import pinorobotics.teleops.impl.FanOutTeleopsClientImpl;
+import pinorobotics.teleops.impl.FixedRateTeleopsClient;
 import pinorobotics.teleops.impl.HumbleMoveItServoTeleopsClient;
 import pinorobotics.teleops.impl.JazzyMoveItServoTeleopsClient;
+import pinorobotics.teleops.impl.MeteredServoControl;
+import pinorobotics.teleops.impl.MeteredTeleopsClientImpl;
+import pinorobotics.teleops.impl.MoveItServoControl;
+import pinorobotics.teleops.impl.RecordingTeleopsClient;
+import pinorobotics.teleops.impl.ServoFeedbackTeleopsClientImpl;
+import pinorobotics.teleops.impl.SimulatedServoImpl;
+import pinorobotics.teleops.impl.SmoothingTeleopsClient;
+import pinorobotics.teleops.impl.TeleopsArbiterImpl;
 import pinorobotics.teleops.impl.TeleopsClientImpl;
+import pinorobotics.teleops.impl.TeleopsMetricsRecorder;
+import pinorobotics.teleops.impl.WatchdogTeleopsClientImpl;
 
 /**
  * Factory methods for {@link TeleopsClient}
@@ -60,12 +76,32 @@ public class TeleopsClientFactory {
     }
 
     /**
-     * Creates {@link TeleopsClient} for MoveIt Servo.
+     * Creates {@link BoundedTeleopsClient} which handles overflow of the pending commands according
+     * to the given settings.
+     *
+     * <p>To use it with MoveIt Servo see {@link #createClientForServo(JRos2Client, RosRelease,
+     * TeleopsClient)}
+     */
+    public BoundedTeleopsClient createClient(
+            JRosClient client,
+            String frameName,
+            List<String> joints,
+            String twistTopicName,
+            String jogTopicName,
+            BackpressureSettings backpressureSettings) {
+        return new TeleopsClientImpl(
+                client, frameName, joints, twistTopicName, jogTopicName, backpressureSettings);
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo.
      *
      * <p>This client by default publishes all movement commands to MoveIt Servo topics.
      *
      * <p>In case of {@link RosRelease#ROS2_HUMBLE} it automatically starts MoveIt Servo node before
-     * sending the messages (see {@link MoveItServoClient#startServo()})
+     * sending the messages (see {@link MoveItServoClient#startServo()}). To start it in the
+     * background as soon as the client is created use {@link
+     * #createHumbleClientForServo(JRos2Client, TeleopsClient)}.
      *
      * <p>In case of {@link RosRelease#ROS2_JAZZY} it automatically calls MoveIt Servo to switch to
      * the correct command type (see {@link MoveItServoClient#switchCommandType()})
@@ -77,7 +113,7 @@ public class TeleopsClientFactory {
      * @see #DEFAULT_JOG_TOPIC_NAME
      * @see #DEFAULT_TWIST_TOPIC_NAME
      */
-    public TeleopsClient createClientForServo(
+    public ServoTeleopsClient createClientForServo(
             JRos2Client client, RosRelease rosRelease, String frameName, List<String> joints) {
         var teleopsClient =
                 new TeleopsClientImpl(
@@ -86,20 +122,34 @@ public class TeleopsClientFactory {
                         joints,
                         DEFAULT_TWIST_TOPIC_NAME,
                         DEFAULT_JOG_TOPIC_NAME);
-        var servoClient = factory.createMoveItServoClient(client, rosRelease);
+        return createClientForServo(client, rosRelease, teleopsClient);
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo which publishes all movement commands
+     * through the given client.
+     *
+     * <p>This allows to use MoveIt Servo with any other {@link TeleopsClient} (for example {@link
+     * BoundedTeleopsClient}). The given client is expected to publish to MoveIt Servo topics.
+     *
+     * @see #createClientForServo(JRos2Client, RosRelease, String, List)
+     * @see #DEFAULT_JOG_TOPIC_NAME
+     * @see #DEFAULT_TWIST_TOPIC_NAME
+     */
+    public ServoTeleopsClient createClientForServo(
+            JRos2Client client, RosRelease rosRelease, TeleopsClient teleopsClient) {
         return switch (rosRelease) {
-            case ROS2_HUMBLE ->
-                    new HumbleMoveItServoTeleopsClient(teleopsClient, servoClient, false);
-            default -> new JazzyMoveItServoTeleopsClient(teleopsClient, servoClient);
+            case ROS2_HUMBLE -> createHumbleClientForServo(client, teleopsClient, false);
+            default -> createJazzyClientForServo(client, teleopsClient);
         };
     }
 
     /**
-     * Creates {@link TeleopsClient} for MoveIt Servo running in ROS2 Jazzy
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo running in ROS2 Jazzy
      *
      * @see #createClientForServo(JRos2Client, RosRelease, String, List)
      */
-    public TeleopsClient createJazzyClientForServo(
+    public ServoTeleopsClient createJazzyClientForServo(
             JRos2Client client, String frameName, List<String> joints) {
         var teleopsClient =
                 new TeleopsClientImpl(
@@ -108,16 +158,46 @@ public class TeleopsClientFactory {
                         joints,
                         DEFAULT_TWIST_TOPIC_NAME,
                         DEFAULT_JOG_TOPIC_NAME);
+        return createJazzyClientForServo(client, teleopsClient);
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo running in ROS2 Jazzy which publishes all
+     * movement commands through the given client
+     *
+     * @see #createClientForServo(JRos2Client, RosRelease, TeleopsClient)
+     */
+    public ServoTeleopsClient createJazzyClientForServo(
+            JRos2Client client, TeleopsClient teleopsClient) {
+        return createJazzyClientForServo(client, teleopsClient, Optional.empty());
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo running in ROS2 Jazzy which publishes all
+     * movement commands through the given client.
+     *
+     * <p>MoveIt Servo command type is switched in the background, so movement methods never block
+     * on it. While switching is in progress only the latest command of the new type is kept and it
+     * is published once MoveIt Servo completes the switch.
+     *
+     * @param initialCommandType if present, MoveIt Servo is switched to this command type as soon
+     *     as the client is created so that the first command does not wait for the switch
+     */
+    public ServoTeleopsClient createJazzyClientForServo(
+            JRos2Client client,
+            TeleopsClient teleopsClient,
+            Optional<TeleopsCommandType> initialCommandType) {
         var servoClient = factory.createMoveItServoClient(client, RosRelease.ROS2_JAZZY);
-        return new JazzyMoveItServoTeleopsClient(teleopsClient, servoClient);
+        return new JazzyMoveItServoTeleopsClient(
+                teleopsClient, MoveItServoControl.of(servoClient), initialCommandType);
     }
 
     /**
-     * Creates {@link TeleopsClient} for MoveIt Servo running in ROS2 Humble
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo running in ROS2 Humble
      *
      * @see #createClientForServo(JRos2Client, RosRelease, String, List)
      */
-    public TeleopsClient createHumbleClientForServo(
+    public ServoTeleopsClient createHumbleClientForServo(
             JRos2Client client, String frameName, List<String> joints, boolean isServoStarted) {
         var teleopsClient =
                 new TeleopsClientImpl(
@@ -126,7 +206,270 @@ public class TeleopsClientFactory {
                         joints,
                         DEFAULT_TWIST_TOPIC_NAME,
                         DEFAULT_JOG_TOPIC_NAME);
+        return createHumbleClientForServo(client, teleopsClient, isServoStarted);
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo running in ROS2 Humble which publishes
+     * all movement commands through the given client.
+     *
+     * <p>MoveIt Servo is started in the background as soon as the client is created, so that it can
+     * overlap with the rest of the application startup. First movement command waits only for the
+     * remaining startup time (see {@link ServoTeleopsClient#getServoReady()}).
+     *
+     * @see #createClientForServo(JRos2Client, RosRelease, TeleopsClient)
+     */
+    public ServoTeleopsClient createHumbleClientForServo(
+            JRos2Client client, TeleopsClient teleopsClient) {
+        var servoClient = factory.createMoveItServoClient(client, RosRelease.ROS2_HUMBLE);
+        return HumbleMoveItServoTeleopsClient.startServoAsync(
+                teleopsClient, MoveItServoControl.of(servoClient));
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for MoveIt Servo running in ROS2 Humble which publishes
+     * all movement commands through the given client
+     *
+     * @param isServoStarted if false, MoveIt Servo is started by the first movement command (see
+     *     {@link #createHumbleClientForServo(JRos2Client, TeleopsClient)} to start it in the
+     *     background instead)
+     * @see #createClientForServo(JRos2Client, RosRelease, TeleopsClient)
+     */
+    public ServoTeleopsClient createHumbleClientForServo(
+            JRos2Client client, TeleopsClient teleopsClient, boolean isServoStarted) {
         var servoClient = factory.createMoveItServoClient(client, RosRelease.ROS2_HUMBLE);
-        return new HumbleMoveItServoTeleopsClient(teleopsClient, servoClient, isServoStarted);
+        return new HumbleMoveItServoTeleopsClient(
+                teleopsClient, MoveItServoControl.of(servoClient), isServoStarted);
+    }
+
+    /**
+     * Creates {@link ServoFeedbackTeleopsClient} which subscribes to the status of MoveIt Servo and
+     * adapts the commands published through the given client.
+     *
+     * <p>To use it with MoveIt Servo, it should be wrapped into the servo client:
+     *
+     * <pre>{@code
+     * factory.createClientForServo(client, rosRelease,
+     *     factory.createServoFeedbackClient(client, rosRelease, teleopsClient, settings))
+     * }</pre>
+     *
+     * <p>Closing feedback client closes the given client as well.
+     */
+    public ServoFeedbackTeleopsClient createServoFeedbackClient(
+            JRos2Client client,
+            RosRelease rosRelease,
+            TeleopsClient teleopsClient,
+            ServoFeedbackSettings settings) {
+        return new ServoFeedbackTeleopsClientImpl(teleopsClient, settings)
+                .subscribe(client, rosRelease, settings.statusTopicName());
+    }
+
+    /**
+     * Creates {@link StreamingTeleopsClient} which publishes the latest command received by it to
+     * the given client with the fixed rate.
+     *
+     * <p>Closing streaming client closes the given client as well.
+     *
+     * @param client client which will be used to publish the commands
+     * @param numOfJoints number of joints in the robot, jog commands are validated against it
+     * @param rate publishing rate in Hz (for MoveIt Servo usually in range 100-500Hz)
+     */
+    public StreamingTeleopsClient createStreamingClient(
+            TeleopsClient client, int numOfJoints, double rate) {
+        return new FixedRateTeleopsClient(client, numOfJoints, rate);
+    }
+
+    /**
+     * Creates {@link MeteredTeleopsClient} which records metrics of all commands passing through it
+     * to the given client.
+     *
+     * <p>Closing metered client closes the given client as well.
+     *
+     * @param logPeriod if present, metrics are logged with the given period
+     */
+    public MeteredTeleopsClient createMeteredClient(
+            TeleopsClient client, Optional<Duration> logPeriod) {
+        return new MeteredTeleopsClientImpl(client, new TeleopsMetricsRecorder(), logPeriod);
+    }
+
+    /**
+     * Creates {@link MeteredTeleopsClient} for MoveIt Servo which, in addition to the command
+     * metrics, records time spent in MoveIt Servo calls.
+     *
+     * @param isServoStarted used only for {@link RosRelease#ROS2_HUMBLE}, if false MoveIt Servo is
+     *     started in the background (see {@link #createHumbleClientForServo(JRos2Client,
+     *     TeleopsClient)})
+     * @param initialCommandType used only for {@link RosRelease#ROS2_JAZZY} (see {@link
+     *     #createJazzyClientForServo(JRos2Client, TeleopsClient, Optional)})
+     * @see #createClientForServo(JRos2Client, RosRelease, TeleopsClient)
+     * @see #createMeteredClient(TeleopsClient, Optional)
+     */
+    public MeteredTeleopsClient createMeteredClientForServo(
+            JRos2Client client,
+            RosRelease rosRelease,
+            TeleopsClient teleopsClient,
+            boolean isServoStarted,
+            Optional<TeleopsCommandType> initialCommandType,
+            Optional<Duration> logPeriod) {
+        var metrics = new TeleopsMetricsRecorder();
+        var servoControl =
+                new MeteredServoControl(
+                        MoveItServoControl.of(factory.createMoveItServoClient(client, rosRelease)),
+                        metrics);
+        TeleopsClient servoTeleopsClient =
+                switch (rosRelease) {
+                    case ROS2_HUMBLE ->
+                            isServoStarted
+                                    ? new HumbleMoveItServoTeleopsClient(
+                                            teleopsClient, servoControl, true)
+                                    : HumbleMoveItServoTeleopsClient.startServoAsync(
+                                            teleopsClient, servoControl);
+                    default ->
+                            new JazzyMoveItServoTeleopsClient(
+                                    teleopsClient, servoControl, initialCommandType);
+                };
+        return new MeteredTeleopsClientImpl(servoTeleopsClient, metrics, logPeriod);
+    }
+
+    /**
+     * Creates {@link WatchdogTeleopsClient} which sends zero velocity command to the given client
+     * if no new commands are received within the timeout.
+     *
+     * <p>Closing watchdog client closes the given client as well.
+     *
+     * @param timeout usually should be lower than the command timeout of the receiver (for MoveIt
+     *     Servo see incoming_command_timeout parameter)
+     */
+    public WatchdogTeleopsClient createWatchdogClient(TeleopsClient client, Duration timeout) {
+        return new WatchdogTeleopsClientImpl(client, timeout);
+    }
+
+    /**
+     * Creates {@link DeduplicatingTeleopsClient} which publishes identical consecutive commands to
+     * the given client only with the keepalive rate.
+     *
+     * <p>Closing deduplicating client closes the given client as well.
+     *
+     * @param keepaliveRate rate (Hz) with which identical commands are published, for MoveIt Servo
+     *     keepalive period should be lower than its incoming_command_timeout parameter
+     */
+    public DeduplicatingTeleopsClient createDeduplicatingClient(
+            TeleopsClient client, double keepaliveRate) {
+        return new DeduplicatingTeleopsClientImpl(client, keepaliveRate);
+    }
+
+    /**
+     * Creates {@link TeleopsClient} which limits acceleration and jerk of the velocities sent to
+     * the given client.
+     *
+     * <p>Each command is treated as the target velocities and client forwards the velocities which
+     * move towards them within the limits. To reach the targets the client needs to be called
+     * periodically, so usually it should be wrapped into {@link StreamingTeleopsClient}:
+     *
+     * <pre>{@code
+     * factory.createStreamingClient(
+     *         factory.createSmoothingClient(client, limits), numOfJoints, rate)
+     * }</pre>
+     *
+     * <p>Closing smoothing client closes the given client as well.
+     */
+    public TeleopsClient createSmoothingClient(TeleopsClient client, SmoothingLimits limits) {
+        return new SmoothingTeleopsClient(client, limits);
+    }
+
+    /**
+     * Creates {@link FanOutTeleopsClient} which publishes every command to all the given targets.
+     *
+     * <p>All targets are expected to be identical robots: commands are performed in the same frame
+     * and with the same list of joints.
+     *
+     * @param frameName name of the frame where to perform the movements
+     * @param joints list of joints of each robot
+     * @param targets robots to publish commands to
+     */
+    public FanOutTeleopsClient createFanOutClient(
+            String frameName, List<String> joints, List<FanOutTarget> targets) {
+        return new FanOutTeleopsClientImpl(frameName, joints, targets);
+    }
+
+    /**
+     * Creates {@link TeleopsArbiter} which forwards the commands of the registered sources to the
+     * given client according to their priorities.
+     *
+     * <p>Closing arbiter closes the given client as well.
+     */
+    public TeleopsArbiter createArbiter(TeleopsClient client) {
+        return new TeleopsArbiterImpl(client);
+    }
+
+    /**
+     * Creates {@link TeleopsClient} which appends every command to the given file, so that the
+     * session can be replayed later with {@link TeleopsUtils#replay(Path, TeleopsClient, double)}.
+     *
+     * <p>Commands are stored in the compact binary form and written through the fixed size buffer,
+     * so the client can record sessions of any length. Existing file is overwritten.
+     *
+     * <p>Closing recording client closes the given client as well.
+     */
+    public TeleopsClient createRecordingClient(TeleopsClient client, Path file) {
+        return new RecordingTeleopsClient(client, file);
+    }
+
+    /**
+     * Creates {@link SimulatedServo} which behaves as MoveIt Servo of the given ROS release and
+     * answers service calls immediately.
+     *
+     * @param joints joints of the simulated robot
+     */
+    public SimulatedServo createSimulatedServo(RosRelease rosRelease, List<String> joints) {
+        return createSimulatedServo(rosRelease, joints, Duration.ZERO);
+    }
+
+    /**
+     * Creates {@link SimulatedServo} which behaves as MoveIt Servo of the given ROS release.
+     *
+     * @param joints joints of the simulated robot
+     * @param serviceLatency how long each MoveIt Servo service call takes
+     */
+    public SimulatedServo createSimulatedServo(
+            RosRelease rosRelease, List<String> joints, Duration serviceLatency) {
+        return new SimulatedServoImpl(rosRelease, joints, serviceLatency);
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for {@link SimulatedServo} which publishes all movement
+     * commands through the given client.
+     *
+     * <p>Same as {@link #createClientForServo(JRos2Client, RosRelease, TeleopsClient)} but MoveIt
+     * Servo service calls are answered by the simulated servo. The given client is expected to
+     * publish to {@link SimulatedServo#getRosClient()}.
+     *
+     * <p>Closing servo client does not close the simulated servo.
+     */
+    public ServoTeleopsClient createClientForServo(
+            SimulatedServo servo, TeleopsClient teleopsClient) {
+        return createClientForServo(servo, teleopsClient, Optional.empty());
+    }
+
+    /**
+     * Creates {@link ServoTeleopsClient} for {@link SimulatedServo} which publishes all movement
+     * commands through the given client.
+     *
+     * @param initialCommandType used only for {@link RosRelease#ROS2_JAZZY} (see {@link
+     *     #createJazzyClientForServo(JRos2Client, TeleopsClient, Optional)})
+     * @see #createClientForServo(SimulatedServo, TeleopsClient)
+     */
+    public ServoTeleopsClient createClientForServo(
+            SimulatedServo servo,
+            TeleopsClient teleopsClient,
+            Optional<TeleopsCommandType> initialCommandType) {
+        var simulatedServo = (SimulatedServoImpl) servo;
+        var control = simulatedServo.getControl();
+        return switch (simulatedServo.getRosRelease()) {
+            case ROS2_HUMBLE ->
+                    HumbleMoveItServoTeleopsClient.startServoAsync(teleopsClient, control);
+            default ->
+                    new JazzyMoveItServoTeleopsClient(teleopsClient, control, initialCommandType);
+        };
     }
 }
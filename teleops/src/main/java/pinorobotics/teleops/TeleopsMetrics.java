@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the metrics collected by {@link MeteredTeleopsClient}
+ *
+ * @param uptime time since the client was created
+ * @param twistCount number of Cartesian (twist) commands
+ * @param jogCount number of joint jog commands
+ * @param errorCount number of commands which failed with an exception
+ * @param publishLatency time spent in the movement methods of the client
+ * @param startServoLatency time spent starting MoveIt Servo (Humble only)
+ * @param switchCommandTypeLatency time spent switching MoveIt Servo command type (Jazzy only)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public record TeleopsMetrics(
+        Duration uptime,
+        long twistCount,
+        long jogCount,
+        long errorCount,
+        LatencyStats publishLatency,
+        LatencyStats startServoLatency,
+        LatencyStats switchCommandTypeLatency) {
+
+    /** Average rate (Hz) of twist commands since the client was created */
+    public double twistRate() {
+        return rate(twistCount);
+    }
+
+    /** Average rate (Hz) of jog commands since the client was created */
+    public double jogRate() {
+        return rate(jogCount);
+    }
+
+    private double rate(long count) {
+        var nanos = uptime.toNanos();
+        return nanos == 0 ? 0 : count * 1_000_000_000. / nanos;
+    }
+}
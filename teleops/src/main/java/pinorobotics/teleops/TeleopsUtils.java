@@ -20,12 +20,21 @@ package pinorobotics.teleops;
 import id.jros2messages.sensor_msgs.JointStateMessage;
 import id.jrosclient.JRosClient;
 import id.jrosclient.TopicSubscriber;
-import id.xfunction.function.Unchecked;
 import id.xfunction.logging.XLogger;
-import java.util.Arrays;
+import java.nio.DoubleBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Flow.Subscription;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import pinorobotics.teleops.impl.CommandLogReplayer;
+import pinorobotics.teleops.impl.JointStateMonitorImpl;
+import pinorobotics.teleops.impl.JointsCache;
+import pinorobotics.teleops.impl.JoyInputImpl;
+import pinorobotics.teleops.impl.ProfileStreamer;
+import pinorobotics.teleops.messages.JoyMessage;
 
 /**
  * @author aeon_flux aeon_flux@eclipso.ch
@@ -39,31 +48,181 @@ public class TeleopsUtils {
      */
     public static final String DEFAULT_JOINT_STATES_TOPIC_NAME = "/joint_states";
 
+    /** Default directory where joints are cached */
+    public static final Path DEFAULT_JOINTS_CACHE_DIR =
+            Path.of(System.getProperty("user.home"), ".teleops", "joints");
+
+    /** Default topic which is used by ROS joy_node to publish the joystick state */
+    public static final String DEFAULT_JOY_TOPIC_NAME = "/joy";
+
     /**
      * Reads all joints from the {@link JointStateMessage} messages published to the joint topic.
      *
+     * <p>Blocks until the first message is received (see {@link #readJointsAsync(JRosClient,
+     * String, Duration)} to wait with timeout).
+     *
      * @param client
      * @param jointStatesTopic see {@link #DEFAULT_JOINT_STATES_TOPIC_NAME}
      * @return
      */
     public List<String> readJoints(JRosClient client, String jointStatesTopic) {
-        var q = new SynchronousQueue<List<String>>();
-        client.subscribe(
+        try {
+            return subscribeJoints(client, jointStatesTopic).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Reads all joints from the first {@link JointStateMessage} message published to the joint
+     * topic.
+     *
+     * @param jointStatesTopic see {@link #DEFAULT_JOINT_STATES_TOPIC_NAME}
+     * @param timeout if no message is received within it, future completes exceptionally with
+     *     {@link java.util.concurrent.TimeoutException}
+     */
+    public CompletableFuture<List<String>> readJointsAsync(
+            JRosClient client, String jointStatesTopic, Duration timeout) {
+        return subscribeJoints(client, jointStatesTopic)
+                .orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Same as {@link #readJointsAsync(JRosClient, String, Duration)} but uses joints cached on disk
+     * during the previous runs.
+     *
+     * <p>If joints for the given topic are present in the cache, returned future is completed with
+     * them immediately. Joints are still read from the topic in the background to confirm the
+     * cached ones: if they differ, the cache is updated and a warning is logged, since they will be
+     * used only on the next run.
+     *
+     * @param cacheDir see {@link #DEFAULT_JOINTS_CACHE_DIR}
+     */
+    public CompletableFuture<List<String>> readJointsAsync(
+            JRosClient client, String jointStatesTopic, Duration timeout, Path cacheDir) {
+        var cache = new JointsCache(cacheDir);
+        var discovered =
+                readJointsAsync(client, jointStatesTopic, timeout)
+                        .thenApply(
+                                joints -> {
+                                    cache.write(jointStatesTopic, joints);
+                                    return joints;
+                                });
+        var cached = cache.read(jointStatesTopic);
+        if (cached.isEmpty()) return discovered;
+        LOGGER.info("Using cached joints {0}", cached.get());
+        discovered.whenComplete(
+                (joints, e) -> {
+                    if (e != null)
+                        LOGGER.warning(
+                                "Could not confirm cached joints: "
+                                        + (e.getCause() != null ? e.getCause() : e));
+                    else if (!joints.equals(cached.get()))
+                        LOGGER.warning(
+                                "Joints published to "
+                                        + jointStatesTopic
+                                        + " differ from the cached ones, they will be used on"
+                                        + " the next run: "
+                                        + joints);
+                    else LOGGER.fine("Cached joints are confirmed");
+                });
+        return CompletableFuture.completedFuture(cached.get());
+    }
+
+    /**
+     * Creates {@link JoyInput} which stays subscribed to the joystick topic and sends commands to
+     * the given client until it is closed.
+     *
+     * @param joyTopic topic where {@link JoyMessage} messages are published, see {@link
+     *     #DEFAULT_JOY_TOPIC_NAME}
+     */
+    public JoyInput createJoyInput(
+            JRosClient client, String joyTopic, JoyMapping mapping, TeleopsClient teleopsClient) {
+        return new JoyInputImpl(teleopsClient, mapping).subscribe(client, joyTopic);
+    }
+
+    /**
+     * Replays the session recorded with {@link TeleopsClientFactory#createRecordingClient} by
+     * sending all its commands to the given client in a separate thread.
+     *
+     * <p>Replay stops when all commands are sent or when returned future is cancelled.
+     *
+     * @param speed replay speed relative to the recording: 1 keeps original timing, 2 replays twice
+     *     faster etc.
+     */
+    public CompletableFuture<ReplayReport> replay(
+            Path recording, TeleopsClient client, double speed) {
+        return new CommandLogReplayer(recording, client, speed).start();
+    }
+
+    /**
+     * Streams Cartesian velocity profile to the given client without calling {@link
+     * TeleopsClient#moveTwist(double, double, double, double, double, double)} for each sample.
+     *
+     * <p>Each sample consists of 7 values: time (seconds, relative to the start of the streaming),
+     * 3 linear and 3 angular velocities. Samples are published from the separate thread at their
+     * scheduled times.
+     *
+     * @param samples remaining elements of the buffer are streamed, buffer itself is not modified
+     * @return future which completes once all samples are published. Cancelling it stops the
+     *     streaming.
+     */
+    public CompletableFuture<ProfileReport> streamTwistProfile(
+            TeleopsClient client, DoubleBuffer samples) {
+        return new ProfileStreamer(client, TeleopsCommandType.TWIST, samples, 6).start();
+    }
+
+    /**
+     * Streams joints velocity profile to the given client without calling {@link
+     * TeleopsClient#move(double...)} for each sample.
+     *
+     * <p>Each sample consists of time (seconds, relative to the start of the streaming) followed by
+     * velocities for all the joints.
+     *
+     * @see #streamTwistProfile(TeleopsClient, DoubleBuffer)
+     */
+    public CompletableFuture<ProfileReport> streamJogProfile(
+            TeleopsClient client, int numOfJoints, DoubleBuffer samples) {
+        return new ProfileStreamer(client, TeleopsCommandType.JOG, samples, numOfJoints).start();
+    }
+
+    /**
+     * Creates {@link JointStateMonitor} which stays subscribed to the joint states topic until it
+     * is closed.
+     *
+     * @param jointStatesTopic see {@link #DEFAULT_JOINT_STATES_TOPIC_NAME}
+     * @param joints joints to monitor, can be provided manually or by using {@link
+     *     #readJointsAsync(JRosClient, String, Duration)}
+     */
+    public JointStateMonitor createJointStateMonitor(
+            JRosClient client, String jointStatesTopic, List<String> joints) {
+        return new JointStateMonitorImpl(joints).subscribe(client, jointStatesTopic);
+    }
+
+    private CompletableFuture<List<String>> subscribeJoints(
+            JRosClient client, String jointStatesTopic) {
+        var future = new CompletableFuture<List<String>>();
+        var subscriber =
                 new TopicSubscriber<>(JointStateMessage.class, jointStatesTopic) {
                     @Override
                     public void onNext(JointStateMessage item) {
-                        try {
-                            q.put(Arrays.asList(item.name));
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                        getSubscription().ifPresent(Subscription::cancel);
+                        future.complete(List.of(item.name));
                     }
-                });
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        future.completeExceptionally(throwable);
+                    }
+                };
+        client.subscribe(subscriber);
+        // stop listening once joints are received, or future is cancelled or timed out
+        future.whenComplete(
+                (joints, e) -> subscriber.getSubscription().ifPresent(Subscription::cancel));
         LOGGER.info(
                 "Waiting for joints to be published to {0} (use enableJog option to change"
                         + " this)",
                 jointStatesTopic);
-        return Unchecked.get(q::take);
+        return future;
     }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops;
+
+/**
+ * {@link TeleopsClient} which stops the robot when commands stop arriving.
+ *
+ * <p>If no new command is received within the timeout, it sends the same command as the last one
+ * but with zero velocities, so the robot does not keep moving when the application or the operator
+ * input hangs. Watchdog fires only once per command and never fires when the last command already
+ * has zero velocities.
+ *
+ * @see TeleopsClientFactory#createWatchdogClient(TeleopsClient, java.time.Duration)
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface WatchdogTeleopsClient extends TeleopsClient {
+
+    /** Number of times watchdog sent zero velocity command since the client was created */
+    long getFiredCount();
+}
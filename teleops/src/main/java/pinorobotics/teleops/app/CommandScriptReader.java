@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import pinorobotics.teleops.impl.TeleopsCommand;
+
+/**
+ * Reads commands of the text script one by one.
+ *
+ * <p>Each line of the script contains single command:
+ *
+ * <pre>
+ * twist &lt;velX&gt; &lt;velY&gt; &lt;velZ&gt; &lt;angVelX&gt; &lt;angVelY&gt; &lt;angVelZ&gt;
+ * jog &lt;jointIndex&gt; &lt;velocity&gt;
+ * joints &lt;velocity1&gt; ... &lt;velocityN&gt;
+ * wait &lt;milliseconds&gt;
+ * rate &lt;Hz&gt;
+ * </pre>
+ *
+ * <p>Empty lines and lines starting with '#' are ignored.
+ *
+ * <p>Lines are tokenized and numbers are parsed directly from the input bytes into the reusable
+ * buffers, so reading commands does not allocate (except for numbers in unusual formats like "NaN"
+ * which are passed to {@link Double#parseDouble(String)}).
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class CommandScriptReader {
+
+    public enum Kind {
+        /** Movement command which is stored into {@link TeleopsCommand} */
+        MOVE,
+        /** Wait for {@link CommandScriptReader#getValue()} milliseconds */
+        WAIT,
+        /** Send following movement commands with {@link CommandScriptReader#getValue()} rate */
+        RATE,
+        /** No more commands */
+        END
+    }
+
+    private static final byte[] TWIST = bytes("twist");
+    private static final byte[] JOG = bytes("jog");
+    private static final byte[] JOINTS = bytes("joints");
+    private static final byte[] WAIT = bytes("wait");
+    private static final byte[] RATE = bytes("rate");
+
+    /** Powers of 10 which are represented exactly by double */
+    private static final double[] POWERS_OF_10 = new double[23];
+
+    static {
+        POWERS_OF_10[0] = 1;
+        for (int i = 1; i < POWERS_OF_10.length; i++) POWERS_OF_10[i] = POWERS_OF_10[i - 1] * 10;
+    }
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[8192];
+    private int bufferPos;
+    private int bufferLimit;
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private int lineNumber;
+
+    /** Start and end of the tokens of the current line */
+    private int[] tokenStarts = new int[16];
+
+    private int[] tokenEnds = new int[16];
+    private int numOfTokens;
+    private double[] values = new double[16];
+    private double[] jointVelocities = new double[0];
+    private double value;
+
+    public CommandScriptReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Read next command
+     *
+     * @param command where movement command is stored
+     * @throws IllegalArgumentException if command is not valid
+     */
+    public Kind read(TeleopsCommand command) throws IOException {
+        while (readLine()) {
+            tokenize();
+            if (numOfTokens == 0 || line[tokenStarts[0]] == '#') continue;
+            if (isToken(0, TWIST)) {
+                checkArguments(6);
+                parseArguments();
+                command.setTwist(values[0], values[1], values[2], values[3], values[4], values[5]);
+                return Kind.MOVE;
+            }
+            if (isToken(0, JOG)) {
+                checkArguments(2);
+                parseArguments();
+                var jointIndex = (int) values[0];
+                if (jointIndex != values[0] || jointIndex < 0)
+                    throw error("Invalid joint index " + token(1));
+                command.setJog(jointIndex, values[1]);
+                return Kind.MOVE;
+            }
+            if (isToken(0, JOINTS)) {
+                if (numOfTokens == 1) throw error("Joint velocities are missing");
+                parseArguments();
+                // number of joints usually stays the same so the array is allocated only once
+                if (jointVelocities.length != numOfTokens - 1)
+                    jointVelocities = new double[numOfTokens - 1];
+                System.arraycopy(values, 0, jointVelocities, 0, jointVelocities.length);
+                command.setJog(jointVelocities);
+                return Kind.MOVE;
+            }
+            if (isToken(0, WAIT)) {
+                checkArguments(1);
+                parseArguments();
+                if (!(values[0] >= 0)) throw error("Wait time must be non negative");
+                value = values[0];
+                return Kind.WAIT;
+            }
+            if (isToken(0, RATE)) {
+                checkArguments(1);
+                parseArguments();
+                if (!(values[0] >= 0)) throw error("Rate must be non negative");
+                value = values[0];
+                return Kind.RATE;
+            }
+            throw error("Unknown command " + token(0));
+        }
+        return Kind.END;
+    }
+
+    /** Argument of {@link Kind#WAIT} and {@link Kind#RATE} commands */
+    public double getValue() {
+        return value;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        while (true) {
+            if (bufferPos == bufferLimit) {
+                bufferLimit = in.read(buffer);
+                bufferPos = 0;
+                if (bufferLimit == -1) {
+                    bufferLimit = 0;
+                    if (lineLength == 0) return false;
+                    break;
+                }
+            }
+            var b = buffer[bufferPos++];
+            if (b == '\n') break;
+            if (lineLength == line.length) line = Arrays.copyOf(line, line.length * 2);
+            line[lineLength++] = b;
+        }
+        lineNumber++;
+        return true;
+    }
+
+    private void tokenize() {
+        numOfTokens = 0;
+        var pos = 0;
+        while (true) {
+            while (pos < lineLength && isWhitespace(line[pos])) pos++;
+            if (pos == lineLength) return;
+            if (numOfTokens == tokenStarts.length) {
+                tokenStarts = Arrays.copyOf(tokenStarts, numOfTokens * 2);
+                tokenEnds = Arrays.copyOf(tokenEnds, numOfTokens * 2);
+            }
+            tokenStarts[numOfTokens] = pos;
+            while (pos < lineLength && !isWhitespace(line[pos])) pos++;
+            tokenEnds[numOfTokens++] = pos;
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private boolean isToken(int index, byte[] expected) {
+        return Arrays.equals(
+                line, tokenStarts[index], tokenEnds[index], expected, 0, expected.length);
+    }
+
+    private void checkArguments(int expected) {
+        if (numOfTokens - 1 != expected)
+            throw error(
+                    "Command %s expects %d arguments but %d were given"
+                            .formatted(token(0), expected, numOfTokens - 1));
+    }
+
+    /** Parse all arguments of the current line into {@link #values} */
+    private void parseArguments() {
+        if (values.length < numOfTokens) values = new double[numOfTokens * 2];
+        for (int i = 1; i < numOfTokens; i++)
+            values[i - 1] = parseDouble(tokenStarts[i], tokenEnds[i]);
+    }
+
+    /**
+     * Parses decimal numbers with up to 18 significant digits when the result is exact (same as
+     * {@link Double#parseDouble(String)}), otherwise falls back to {@link
+     * Double#parseDouble(String)}.
+     */
+    private double parseDouble(int start, int end) {
+        var pos = start;
+        var isNegative = false;
+        if (pos < end && (line[pos] == '-' || line[pos] == '+')) isNegative = line[pos++] == '-';
+        long mantissa = 0;
+        var numOfDigits = 0;
+        var scale = 0;
+        var hasDot = false;
+        var hasDigits = false;
+        for (; pos < end; pos++) {
+            var b = line[pos];
+            if (b >= '0' && b <= '9') {
+                hasDigits = true;
+                if (numOfDigits == 18) return parseDoubleSlow(start, end);
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa != 0) numOfDigits++;
+                if (hasDot) scale++;
+            } else if (b == '.' && !hasDot) {
+                hasDot = true;
+            } else {
+                return parseDoubleSlow(start, end);
+            }
+        }
+        // mantissa below 2^53 and exact power of 10 give correctly rounded result
+        if (!hasDigits || mantissa >= 1L << 53 || scale >= POWERS_OF_10.length)
+            return parseDoubleSlow(start, end);
+        var result = mantissa / POWERS_OF_10[scale];
+        return isNegative ? -result : result;
+    }
+
+    private double parseDoubleSlow(int start, int end) {
+        try {
+            return Double.parseDouble(token(start, end));
+        } catch (NumberFormatException e) {
+            throw error("Invalid number " + token(start, end));
+        }
+    }
+
+    private String token(int index) {
+        return token(tokenStarts[index], tokenEnds[index]);
+    }
+
+    private String token(int start, int end) {
+        return new String(line, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Line " + lineNumber + ": " + message);
+    }
+
+    private static byte[] bytes(String keyword) {
+        return keyword.getBytes(StandardCharsets.US_ASCII);
+    }
+}
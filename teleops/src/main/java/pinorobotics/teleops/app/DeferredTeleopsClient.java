@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import java.util.concurrent.CompletableFuture;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * Forwards commands to the client which is still being created.
+ *
+ * <p>Allows to create the clients which wrap it (for example servo clients, which start preparing
+ * MoveIt Servo immediately) before everything which is needed for the wrapped client is available.
+ * Commands block until the wrapped client is created.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class DeferredTeleopsClient implements TeleopsClient {
+    private final CompletableFuture<? extends TeleopsClient> future;
+    private volatile TeleopsClient client;
+
+    public DeferredTeleopsClient(CompletableFuture<? extends TeleopsClient> future) {
+        this.future = future;
+    }
+
+    private TeleopsClient client() {
+        var client = this.client;
+        if (client == null) this.client = client = future.join();
+        return client;
+    }
+
+    @Override
+    public void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        client().moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+    }
+
+    @Override
+    public void move(double... jointVelocities) {
+        client().move(jointVelocities);
+    }
+
+    @Override
+    public void jog(int jointIndex, double velocity) {
+        client().jog(jointIndex, velocity);
+    }
+
+    @Override
+    public void jog(int[] jointIndices, double[] velocities) {
+        client().jog(jointIndices, velocities);
+    }
+
+    /** Closes the wrapped client if it was created */
+    @Override
+    public void close() throws Exception {
+        future.cancel(false);
+        if (!future.isCompletedExceptionally()) future.join().close();
+    }
+}
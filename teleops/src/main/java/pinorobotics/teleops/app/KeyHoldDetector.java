@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import java.time.Duration;
+
+/**
+ * Tracks which key is currently held using only the key press events (terminals do not report key
+ * releases).
+ *
+ * <p>While key is held terminal autorepeat keeps sending it: first repeat comes after the initial
+ * delay and the rest after much shorter repeat interval. Key is considered released when the next
+ * event does not arrive in time:
+ *
+ * <ul>
+ *   <li>before the first repeat - initial delay, so that held key is not released (and the robot
+ *       does not stutter) while waiting for the first autorepeat. Tapped key therefore keeps the
+ *       robot moving until the initial delay passes.
+ *   <li>after that - twice the repeat interval measured so far
+ * </ul>
+ *
+ * <p>Initial delay is learned from the observed first repeats, so after the first hold it follows
+ * the actual terminal autorepeat delay.
+ *
+ * <p>Not thread safe.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class KeyHoldDetector {
+    public static final int NO_KEY = -1;
+
+    /** Used until repeat interval is measured */
+    private static final long DEFAULT_REPEAT_TIMEOUT_NANOS = Duration.ofMillis(150).toNanos();
+
+    private static final long MIN_REPEAT_TIMEOUT_NANOS = Duration.ofMillis(20).toNanos();
+
+    private long initialDelayNanos;
+    private int heldKey = NO_KEY;
+    private long pressNanos;
+    private long lastEventNanos;
+    private int repeats;
+    private long repeatIntervalNanos;
+    private long releaseDeadlineNanos;
+
+    /**
+     * @param initialDelay maximum delay before the first autorepeat, it is adjusted once actual
+     *     delay is observed. Key is considered held until this delay passes and released if it does
+     *     not repeat within it.
+     */
+    public KeyHoldDetector(Duration initialDelay) {
+        initialDelayNanos = initialDelay.toNanos();
+    }
+
+    /**
+     * Register key press event
+     *
+     * @return true if key was not held before this event (new key press)
+     */
+    public boolean onKey(int key, long nowNanos) {
+        if (heldKey == key && repeats == 0 && !isReleased(nowNanos)) {
+            var interval = nowNanos - pressNanos;
+            // leave some margin since the delay may vary with the system load
+            initialDelayNanos = interval + interval / 4;
+            lastEventNanos = nowNanos;
+            repeats = 1;
+            releaseDeadlineNanos = nowNanos + DEFAULT_REPEAT_TIMEOUT_NANOS;
+            return false;
+        }
+        if (heldKey != key || isReleased(nowNanos)) {
+            heldKey = key;
+            repeats = 0;
+            repeatIntervalNanos = 0;
+            pressNanos = nowNanos;
+            lastEventNanos = nowNanos;
+            releaseDeadlineNanos = nowNanos + initialDelayNanos;
+            return true;
+        }
+        var interval = nowNanos - lastEventNanos;
+        lastEventNanos = nowNanos;
+        repeats++;
+        repeatIntervalNanos =
+                repeatIntervalNanos == 0 ? interval : (3 * repeatIntervalNanos + interval) / 4;
+        releaseDeadlineNanos =
+                nowNanos + Math.max(MIN_REPEAT_TIMEOUT_NANOS, 2 * repeatIntervalNanos);
+        return false;
+    }
+
+    /** Key which is held or {@link #NO_KEY} */
+    public int getHeldKey(long nowNanos) {
+        return isReleased(nowNanos) ? NO_KEY : heldKey;
+    }
+
+    /** Time when held key will be considered released unless it is repeated before that */
+    public long getReleaseDeadline() {
+        return releaseDeadlineNanos;
+    }
+
+    private boolean isReleased(long nowNanos) {
+        return heldKey == NO_KEY || nowNanos >= releaseDeadlineNanos;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import pinorobotics.teleops.app.keyprocessors.KeyProcessor;
+
+/**
+ * Turns key presses into the continuous motion.
+ *
+ * <p>Input thread only registers key presses with {@link #onKey(int)}. Separate virtual thread
+ * keeps sending the command of the held key with the fixed rate and, as soon as the key is released
+ * (see {@link KeyHoldDetector}), sends the command which stops the motion. New key press wakes up
+ * the publisher thread so it is published immediately, without waiting for the next tick.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class KeyHoldInputEngine implements KeyInputEngine {
+    private static final XLogger LOGGER = XLogger.getLogger(KeyHoldInputEngine.class);
+
+    private final KeyHoldDetector detector;
+    private final List<KeyProcessor> processors;
+    private final long periodNanos;
+    private final Thread publisher;
+    private volatile boolean isClosed;
+
+    /** Key which motion was published last, accessed only by the publisher thread */
+    private int activeKey = KeyHoldDetector.NO_KEY;
+
+    /**
+     * @param rate publishing rate (Hz) while key is held
+     * @param initialRepeatDelay see {@link KeyHoldDetector#KeyHoldDetector(Duration)}
+     */
+    public KeyHoldInputEngine(
+            List<KeyProcessor> processors, double rate, Duration initialRepeatDelay) {
+        Preconditions.isTrue(rate > 0, "Rate must be positive");
+        this.processors = processors;
+        periodNanos = Math.round(1_000_000_000 / rate);
+        detector = new KeyHoldDetector(initialRepeatDelay);
+        publisher = Thread.ofVirtual().name("teleops-key-hold").start(this::run);
+    }
+
+    /**
+     * Register key press.
+     *
+     * <p>Pressing a key which is not handled by any of the processors releases the held key.
+     */
+    @Override
+    public void onKey(int key) {
+        boolean isPressed;
+        synchronized (detector) {
+            isPressed = detector.onKey(key, System.nanoTime());
+        }
+        if (isPressed) LockSupport.unpark(publisher);
+    }
+
+    private void run() {
+        while (!isClosed) {
+            var now = System.nanoTime();
+            int key;
+            long releaseDeadline;
+            synchronized (detector) {
+                key = detector.getHeldKey(now);
+                releaseDeadline = detector.getReleaseDeadline();
+            }
+            try {
+                if (activeKey != KeyHoldDetector.NO_KEY && activeKey != key) {
+                    LOGGER.fine("Key {0} released", activeKey);
+                    dispatch(activeKey, true);
+                    activeKey = KeyHoldDetector.NO_KEY;
+                }
+                if (key != KeyHoldDetector.NO_KEY) {
+                    dispatch(key, false);
+                    activeKey = key;
+                }
+            } catch (Exception e) {
+                LOGGER.severe("Failed to publish command for key " + key, e);
+            }
+            var wakeUp = now + periodNanos;
+            if (key == KeyHoldDetector.NO_KEY) LockSupport.park(this);
+            else {
+                // wake up right at the release deadline so that stop command is not delayed
+                if (releaseDeadline - wakeUp < 0) wakeUp = releaseDeadline;
+                LockSupport.parkNanos(this, Math.max(0, wakeUp - System.nanoTime()));
+            }
+        }
+        // robot should not keep moving after the engine is closed
+        if (activeKey == KeyHoldDetector.NO_KEY) return;
+        try {
+            dispatch(activeKey, true);
+        } catch (Exception e) {
+            LOGGER.severe("Failed to publish stop command for key " + activeKey, e);
+        }
+    }
+
+    private void dispatch(int key, boolean isStop) {
+        for (var processor : processors) {
+            if (isStop ? processor.stop(key) : processor.process(key)) return;
+        }
+    }
+
+    /** Stop publishing and send stop command for the key which is held, if any */
+    @Override
+    public void close() throws InterruptedException {
+        isClosed = true;
+        LockSupport.unpark(publisher);
+        publisher.join();
+    }
+}
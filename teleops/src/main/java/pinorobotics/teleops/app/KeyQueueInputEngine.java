@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import id.xfunction.logging.XLogger;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import pinorobotics.teleops.app.keyprocessors.KeyProcessor;
+
+/**
+ * Processes every key once, in the order they were pressed, on a separate virtual thread.
+ *
+ * <p>Keys are handed over through the bounded queue. If processing falls behind and the queue is
+ * full new keys are dropped, since replaying a long backlog of key presses later would move the
+ * robot unexpectedly.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class KeyQueueInputEngine implements KeyInputEngine {
+    private static final XLogger LOGGER = XLogger.getLogger(KeyQueueInputEngine.class);
+    private static final int CAPACITY = 64;
+    private static final int CLOSE = -1;
+
+    private final BlockingQueue<Integer> keys = new ArrayBlockingQueue<>(CAPACITY);
+    private final List<KeyProcessor> processors;
+    private final Thread shaping;
+
+    public KeyQueueInputEngine(List<KeyProcessor> processors) {
+        this.processors = processors;
+        shaping = Thread.ofVirtual().name("teleops-shaping").start(this::run);
+    }
+
+    @Override
+    public void onKey(int key) {
+        if (!keys.offer(key)) LOGGER.warning("Key processing is falling behind, key dropped");
+    }
+
+    private void run() {
+        while (true) {
+            int key;
+            try {
+                key = keys.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (key == CLOSE) return;
+            try {
+                for (var processor : processors) if (processor.process(key)) break;
+            } catch (Exception e) {
+                LOGGER.severe("Failed to process key " + key, e);
+            }
+        }
+    }
+
+    /** Process keys which were already received and stop */
+    @Override
+    public void close() throws InterruptedException {
+        keys.put(CLOSE);
+        shaping.join();
+    }
+}
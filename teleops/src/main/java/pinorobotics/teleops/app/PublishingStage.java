@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import id.xfunction.logging.XLogger;
+import java.util.concurrent.locks.LockSupport;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.impl.CommandSlot;
+import pinorobotics.teleops.impl.TeleopsCommand;
+
+/**
+ * Last stage of the app pipeline which sends commands to the robot.
+ *
+ * <p>Commands are handed over through the single slot (latest command wins) to the virtual thread
+ * which sends them to the client. So publishing or servo service calls which stall do not block the
+ * stages which produce the commands, and once the client recovers it receives the latest command
+ * instead of the backlog of the outdated ones.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class PublishingStage implements AutoCloseable {
+    private static final XLogger LOGGER = XLogger.getLogger(PublishingStage.class);
+
+    private final CommandSlot slot = new CommandSlot();
+    private final TeleopsClient client;
+    private final StageTimings timings;
+    private final Thread publisher;
+    private volatile long putNanos;
+    private volatile boolean isClosed;
+
+    public PublishingStage(TeleopsClient client, StageTimings timings) {
+        this.client = client;
+        this.timings = timings;
+        publisher = Thread.ofVirtual().name("teleops-publish").start(this::run);
+    }
+
+    /** Client which hands the commands over to the publishing stage without blocking */
+    public TeleopsClient getClient() {
+        return new TeleopsClient() {
+            @Override
+            public void moveTwist(
+                    double velX,
+                    double velY,
+                    double velZ,
+                    double angVelX,
+                    double angVelY,
+                    double angVelZ) {
+                slot.putTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+                handOver();
+            }
+
+            @Override
+            public void move(double... jointVelocities) {
+                slot.putJog(jointVelocities);
+                handOver();
+            }
+
+            @Override
+            public void jog(int jointIndex, double velocity) {
+                slot.putJog(jointIndex, velocity);
+                handOver();
+            }
+
+            @Override
+            public void jog(int[] jointIndices, double[] velocities) {
+                slot.putJog(jointIndices, velocities);
+                handOver();
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+
+    private void handOver() {
+        putNanos = System.nanoTime();
+        LockSupport.unpark(publisher);
+    }
+
+    private void run() {
+        var command = new TeleopsCommand();
+        long lastVersion = 0;
+        // commands put before close are still published so that stop commands are not lost
+        while (!isClosed || slot.version() != lastVersion) {
+            if (slot.version() == lastVersion) {
+                LockSupport.park(this);
+                continue;
+            }
+            var version = slot.read(command);
+            var startNanos = System.nanoTime();
+            timings.publishWait.record(startNanos - putNanos);
+            // each write increments version by 2
+            if (version - lastVersion > 2) timings.superseded.add((version - lastVersion) / 2 - 1);
+            lastVersion = version;
+            try {
+                command.sendTo(client);
+            } catch (Exception e) {
+                LOGGER.severe("Failed to publish command", e);
+            }
+            timings.publish.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    /** Publish pending command, if any, and stop the publishing stage */
+    @Override
+    public void close() throws InterruptedException {
+        isClosed = true;
+        LockSupport.unpark(publisher);
+        publisher.join();
+    }
+}
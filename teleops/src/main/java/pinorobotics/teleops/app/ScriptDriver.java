@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import id.xfunction.Preconditions;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.impl.CommandLogReader;
+import pinorobotics.teleops.impl.CommandLogReplayer;
+import pinorobotics.teleops.impl.CommandLogWriter;
+import pinorobotics.teleops.impl.SpinWait;
+import pinorobotics.teleops.impl.TeleopsCommand;
+
+/**
+ * Sends commands from the script to {@link TeleopsClient} without any user interaction.
+ *
+ * <p>Script can be either in text format (see {@link CommandScriptReader}) or in binary format of
+ * the recorded sessions (see {@link pinorobotics.teleops.TeleopsClientFactory#createRecordingClient
+ * }). Text scripts are executed as fast as possible unless they set the rate, binary scripts keep
+ * the recorded timing (scaled by the speed).
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class ScriptDriver {
+    private final TeleopsClient client;
+    private final double speed;
+    private final TeleopsCommand command = new TeleopsCommand();
+
+    /**
+     * @param speed speed of the binary scripts relative to the recording
+     */
+    public ScriptDriver(TeleopsClient client, double speed) {
+        Preconditions.isTrue(speed > 0, "Speed must be positive");
+        this.client = client;
+        this.speed = speed;
+    }
+
+    /**
+     * Execute all commands of the script
+     *
+     * @return number of movement commands sent
+     */
+    public long run(InputStream in) throws IOException {
+        var input = new BufferedInputStream(in, CommandLogWriter.BUFFER_SIZE);
+        return isCommandLog(input) ? runCommandLog(input) : runText(input);
+    }
+
+    private boolean isCommandLog(BufferedInputStream in) throws IOException {
+        in.mark(Integer.BYTES);
+        var magic = in.readNBytes(Integer.BYTES);
+        in.reset();
+        return magic.length == Integer.BYTES
+                && ByteBuffer.wrap(magic).order(ByteOrder.LITTLE_ENDIAN).getInt()
+                        == CommandLogWriter.MAGIC;
+    }
+
+    private long runCommandLog(InputStream in) throws IOException {
+        var reader = new CommandLogReader(Channels.newChannel(in));
+        return new CommandLogReplayer(reader, client, speed).run().replayedCount();
+    }
+
+    private long runText(InputStream in) throws IOException {
+        var reader = new CommandScriptReader(in);
+        long count = 0;
+        long periodNanos = 0;
+        var deadline = System.nanoTime();
+        while (true) {
+            switch (reader.read(command)) {
+                case MOVE -> {
+                    if (periodNanos > 0) {
+                        SpinWait.untilNanoTime(deadline);
+                        deadline += periodNanos;
+                    }
+                    command.sendTo(client);
+                    count++;
+                }
+                case WAIT -> {
+                    SpinWait.untilNanoTime(
+                            System.nanoTime() + Math.round(reader.getValue() * 1_000_000));
+                    deadline = System.nanoTime();
+                }
+                case RATE -> {
+                    periodNanos =
+                            reader.getValue() == 0
+                                    ? 0
+                                    : Math.round(1_000_000_000 / reader.getValue());
+                    deadline = System.nanoTime();
+                }
+                case END -> {
+                    return count;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import java.util.concurrent.atomic.LongAdder;
+import pinorobotics.teleops.impl.LatencyRecorder;
+
+/**
+ * Timings of the app pipeline stages: input (reading keys), shaping (turning keys into commands)
+ * and publishing (sending commands to the robot).
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class StageTimings {
+    /** Time to hand over the key from the input stage to the shaping stage */
+    public final LatencyRecorder input = new LatencyRecorder();
+
+    /** Time to turn the key into the command and hand it over to the publishing stage */
+    public final LatencyRecorder shaping = new LatencyRecorder();
+
+    /** Time command waited for the publishing stage to pick it up */
+    public final LatencyRecorder publishWait = new LatencyRecorder();
+
+    /** Time spent sending the command to the client (including ROS publish and service calls) */
+    public final LatencyRecorder publish = new LatencyRecorder();
+
+    /** Commands which were replaced by the newer ones before the publishing stage picked them up */
+    public final LongAdder superseded = new LongAdder();
+
+    @Override
+    public String toString() {
+        return "StageTimings[input="
+                + input.snapshot()
+                + ", shaping="
+                + shaping.snapshot()
+                + ", publishWait="
+                + publishWait.snapshot()
+                + ", publish="
+                + publish.snapshot()
+                + ", superseded="
+                + superseded.sum()
+                + "]";
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import id.xfunction.logging.XLogger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Measures duration of the app startup phases, some of which run concurrently.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class StartupPhases {
+    private static final XLogger LOGGER = XLogger.getLogger(StartupPhases.class);
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Duration> phases = new LinkedHashMap<>();
+    private final Set<String> failedPhases = new HashSet<>();
+
+    /** Run phase in the current thread */
+    public <T> T measure(String phase, Supplier<T> supplier) {
+        var phaseStartNanos = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(phase, phaseStartNanos);
+        }
+    }
+
+    public void measure(String phase, Runnable runnable) {
+        measure(
+                phase,
+                () -> {
+                    runnable.run();
+                    return null;
+                });
+    }
+
+    /**
+     * Measure phase which was started now and completes together with the given future.
+     *
+     * <p>If future completes exceptionally, the phase is logged and reported as failed.
+     *
+     * @return future which completes same as the given one but only after the phase is recorded
+     */
+    public <T> CompletableFuture<T> measureAsync(String phase, CompletableFuture<T> future) {
+        var phaseStartNanos = System.nanoTime();
+        return future.whenComplete(
+                (result, e) -> {
+                    record(phase, phaseStartNanos);
+                    if (e != null) fail(phase, e);
+                });
+    }
+
+    private synchronized void fail(String phase, Throwable e) {
+        failedPhases.add(phase);
+        LOGGER.warning(
+                "Startup phase {0} failed: {1}",
+                phase, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+    }
+
+    private synchronized void record(String phase, long phaseStartNanos) {
+        var duration = Duration.ofNanos(System.nanoTime() - phaseStartNanos);
+        phases.put(phase, duration);
+        LOGGER.fine("Startup phase {0} took {1}", phase, duration);
+    }
+
+    /**
+     * Log all phases measured so far (including failed ones) together with the total startup time
+     */
+    public synchronized void logReady() {
+        var sinceLaunch =
+                ProcessHandle.current()
+                        .info()
+                        .startInstant()
+                        .map(
+                                start ->
+                                        ", "
+                                                + toMillis(Duration.between(start, Instant.now()))
+                                                + " since launch")
+                        .orElse("");
+        LOGGER.info(
+                "Ready in "
+                        + toMillis(Duration.ofNanos(System.nanoTime() - startNanos))
+                        + sinceLaunch
+                        + ", startup phases: "
+                        + phases.entrySet().stream()
+                                .map(
+                                        e ->
+                                                e.getKey()
+                                                        + "="
+                                                        + toMillis(e.getValue())
+                                                        + (failedPhases.contains(e.getKey())
+                                                                ? " (failed)"
+                                                                : ""))
+                                .collect(Collectors.joining(", ")));
+    }
+
+    private static String toMillis(Duration duration) {
+        return duration.toMillis() + "ms";
+    }
+}
@@ -29,13 +29,30 @@ import id.xfunction.cli.CommandLineInterface;
 import id.xfunction.cli.CommandOptions;
 import id.xfunction.logging.XLogger;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.IntStream;
+import pinorobotics.teleops.BackpressureSettings;
+import pinorobotics.teleops.JoyInput;
+import pinorobotics.teleops.JoyMapping;
+import pinorobotics.teleops.OverflowPolicy;
+import pinorobotics.teleops.ServoFeedbackSettings;
+import pinorobotics.teleops.ServoTeleopsClient;
+import pinorobotics.teleops.SimulatedServo;
+import pinorobotics.teleops.SmoothingLimits;
 import pinorobotics.teleops.TeleopsClient;
 import pinorobotics.teleops.TeleopsClientFactory;
+import pinorobotics.teleops.TeleopsCommandType;
 import pinorobotics.teleops.TeleopsUtils;
 import pinorobotics.teleops.app.keyprocessors.CartesianMoveKeyProcessor;
 import pinorobotics.teleops.app.keyprocessors.JointJogKeyProcessor;
+import pinorobotics.teleops.app.keyprocessors.KeyProcessor;
 import pinorobotics.teleops.impl.CommandLineInterfaceUtils;
 
 /**
@@ -49,7 +66,7 @@ public class TeleopTwistKeyboardApp {
     }
 
     public static void main(String... args) throws Exception {
-        CommandOptions properties = null;
+        CommandOptions properties;
         try {
             properties = CommandOptions.collectOptions(args);
             if (properties.getOption("h").isPresent() || properties.getOption("help").isPresent())
@@ -58,29 +75,350 @@ public class TeleopTwistKeyboardApp {
             usage();
             return;
         }
-        XLogger.load(
-                properties.isOptionTrue("debug")
-                        ? "logging-teleops-debug.properties"
-                        : "logging-teleops.properties");
+        var phases = new StartupPhases();
+        phases.measure(
+                "logger",
+                () ->
+                        XLogger.load(
+                                properties.isOptionTrue("debug")
+                                        ? "logging-teleops-debug.properties"
+                                        : "logging-teleops.properties"));
         LOGGER.fine("Input arguments {0}", properties);
         var frameName = properties.getOption("frame").orElse("");
         var jointStatesTopic =
                 properties
                         .getOption("jointStatesTopic")
                         .orElse(TeleopsUtils.DEFAULT_JOINT_STATES_TOPIC_NAME);
-        try (var client = new JRos2ClientFactory().createClient()) {
-            List<String> joints =
+        var replayFile = properties.getOption("replay").map(Path::of);
+        var script = properties.getOption("script");
+        var isInteractive = replayFile.isEmpty() && script.isEmpty();
+        // stty does not depend on ROS so it runs while the rest of the app starts
+        var consoleSetup =
+                isInteractive
+                        ? phases.measureAsync("console", setupConsoleAsync(properties))
+                        : CompletableFuture.<Void>completedFuture(null);
+        var simulatedServo = createSimulatedServo(properties);
+        try (var client =
+                phases.measure(
+                        "rosClient",
+                        () ->
+                                simulatedServo.isPresent()
+                                        ? simulatedServo.get().getRosClient()
+                                        : new JRos2ClientFactory().createClient())) {
+            var jointsFuture =
                     properties.isOptionTrue("enableJog")
-                            ? new TeleopsUtils().readJoints(client, jointStatesTopic)
-                            : List.of();
-            try (var teleopsClient = createTeleopsClient(properties, client, frameName, joints)) {
-                run(frameName, joints, teleopsClient);
+                            ? phases.measureAsync(
+                                    "joints", readJointsAsync(properties, client, jointStatesTopic))
+                            : CompletableFuture.<List<String>>completedFuture(List.of());
+            // servo clients start preparing MoveIt Servo while joints are still being discovered
+            var baseClient =
+                    phases.measure(
+                            "clients",
+                            () ->
+                                    createTeleopsClient(
+                                            properties,
+                                            client,
+                                            simulatedServo,
+                                            frameName,
+                                            jointsFuture));
+            var servoReady =
+                    baseClient instanceof ServoTeleopsClient servoClient
+                            ? phases.measureAsync("servo", servoClient.getServoReady())
+                            : CompletableFuture.<Void>completedFuture(null);
+            List<String> joints;
+            try {
+                joints = awaitJoints(properties, jointsFuture, jointStatesTopic);
+            } catch (RuntimeException e) {
+                baseClient.close();
+                throw e;
             }
+            // failed phases are logged by StartupPhases
+            CompletableFuture.allOf(consoleSetup, servoReady)
+                    .whenComplete((v, e) -> phases.logReady());
+            if (replayFile.isPresent()) {
+                try (var teleopsClient = baseClient) {
+                    replay(properties, replayFile.get(), teleopsClient);
+                }
+                return;
+            }
+            try (var teleopsClient =
+                    withWatchdog(
+                            properties,
+                            withSmoothing(
+                                    properties,
+                                    joints,
+                                    withDeduplication(
+                                            properties, withRecording(properties, baseClient))))) {
+                if (script.isPresent()) {
+                    runScript(properties, script.get(), teleopsClient);
+                    return;
+                }
+                try (var joyInput = createJoyInput(properties, client, joints, teleopsClient)) {
+                    run(properties, joints, teleopsClient, consoleSetup);
+                }
+            }
+        } finally {
+            simulatedServo.ifPresent(
+                    servo -> {
+                        LOGGER.info("Simulated servo {0}", servo.getStats());
+                        servo.close();
+                    });
         }
     }
 
+    /**
+     * Switches console to the non blocking input without echo using single stty call (which is
+     * skipped when console is already configured)
+     */
+    private static CompletableFuture<Void> setupConsoleAsync(CommandOptions properties) {
+        if (properties.isOptionTrue("skipConsoleSetup"))
+            return CompletableFuture.completedFuture(null);
+        Runtime.getRuntime()
+                .addShutdownHook(
+                        new Thread() {
+                            @Override
+                            public void run() {
+                                try {
+                                    CommandLineInterfaceUtils.stty("echo icanon");
+                                } catch (Exception e) {
+                                    e.printStackTrace();
+                                }
+                            }
+                        });
+        var future = new CompletableFuture<Void>();
+        Thread.ofVirtual()
+                .name("teleops-console")
+                .start(
+                        () -> {
+                            try {
+                                CommandLineInterfaceUtils.stty("-echo -icanon min 1");
+                                future.complete(null);
+                            } catch (Exception e) {
+                                future.completeExceptionally(e);
+                            }
+                        });
+        return future;
+    }
+
+    private static Optional<SimulatedServo> createSimulatedServo(CommandOptions properties) {
+        if (!properties.isOptionTrue("simulateServo")) return Optional.empty();
+        var joints =
+                properties
+                        .getOption("simulatedJoints")
+                        .map(names -> List.of(names.split(",")))
+                        .orElse(IntStream.rangeClosed(1, 6).mapToObj(i -> "joint" + i).toList());
+        return Optional.of(
+                new TeleopsClientFactory()
+                        .createSimulatedServo(
+                                getRosRelease(properties),
+                                joints,
+                                Duration.ofMillis(
+                                        properties
+                                                .getOptionInt("simulatedServiceLatency")
+                                                .orElse(0))));
+    }
+
+    private static RosRelease getRosRelease(CommandOptions properties) {
+        return properties
+                .getOption("rosRelease")
+                .map(RosRelease::valueOf)
+                .orElse(RosRelease.ROS2_JAZZY);
+    }
+
+    private static void replay(
+            CommandOptions properties, Path replayFile, TeleopsClient teleopsClient) {
+        var speed = properties.getOption("replaySpeed").map(Double::parseDouble).orElse(1.);
+        var cli = new CommandLineInterface();
+        cli.print("Replaying " + replayFile);
+        var report = new TeleopsUtils().replay(replayFile, teleopsClient, speed).join();
+        cli.print(
+                "Replayed %d commands recorded at %s, mean deviation %s, max deviation %s"
+                        .formatted(
+                                report.replayedCount(),
+                                report.recordingStart(),
+                                report.meanDeviation(),
+                                report.maxDeviation()));
+    }
+
+    private static void runScript(
+            CommandOptions properties, String script, TeleopsClient teleopsClient)
+            throws IOException {
+        var driver =
+                new ScriptDriver(
+                        teleopsClient,
+                        properties.getOption("replaySpeed").map(Double::parseDouble).orElse(1.));
+        var startNanos = System.nanoTime();
+        long count;
+        if (script.equals("-")) count = driver.run(System.in);
+        else
+            try (var in = Files.newInputStream(Path.of(script))) {
+                count = driver.run(in);
+            }
+        var seconds = (System.nanoTime() - startNanos) / 1e9;
+        new CommandLineInterface()
+                .print(
+                        "Script executed: %d commands in %.3f seconds (%.1f commands/sec)"
+                                .formatted(count, seconds, count / seconds));
+    }
+
+    private static TeleopsClient withServoFeedback(
+            CommandOptions properties,
+            JRos2Client client,
+            RosRelease rosRelease,
+            TeleopsClient teleopsClient) {
+        if (!properties.isOptionTrue("servoFeedback")) return teleopsClient;
+        var defaultSettings = new ServoFeedbackSettings();
+        var settings =
+                new ServoFeedbackSettings(
+                        properties
+                                .getOption("servoStatusTopic")
+                                .orElse(defaultSettings.statusTopicName()),
+                        properties
+                                .getOption("servoDecelerationScale")
+                                .map(Double::parseDouble)
+                                .orElse(defaultSettings.decelerationScale()),
+                        properties
+                                .getOptionInt("servoHaltedPublishPeriod")
+                                .map(Duration::ofMillis)
+                                .orElse(defaultSettings.haltedPublishPeriod()));
+        LOGGER.fine("Servo feedback settings {0}", settings);
+        return new TeleopsClientFactory()
+                .createServoFeedbackClient(client, rosRelease, teleopsClient, settings);
+    }
+
+    private static TeleopsClient withDeduplication(
+            CommandOptions properties, TeleopsClient teleopsClient) {
+        return properties
+                .getOption("keepaliveRate")
+                .map(Double::parseDouble)
+                .<TeleopsClient>map(
+                        rate ->
+                                new TeleopsClientFactory()
+                                        .createDeduplicatingClient(teleopsClient, rate))
+                .orElse(teleopsClient);
+    }
+
+    /**
+     * Recording is done closest to the ROS client, so that it contains exactly the commands which
+     * were published (after smoothing) and replay does not need to repeat the processing.
+     */
+    private static TeleopsClient withRecording(
+            CommandOptions properties, TeleopsClient teleopsClient) {
+        return properties
+                .getOption("record")
+                .map(Path::of)
+                .map(file -> new TeleopsClientFactory().createRecordingClient(teleopsClient, file))
+                .orElse(teleopsClient);
+    }
+
+    private static TeleopsClient withSmoothing(
+            CommandOptions properties, List<String> joints, TeleopsClient teleopsClient) {
+        var maxAcceleration = properties.getOption("maxAcceleration").map(Double::parseDouble);
+        if (maxAcceleration.isEmpty()) return teleopsClient;
+        var limits =
+                new SmoothingLimits(
+                        joints.size(),
+                        maxAcceleration.get(),
+                        properties
+                                .getOption("maxJerk")
+                                .map(Double::parseDouble)
+                                .orElse(Double.POSITIVE_INFINITY));
+        LOGGER.fine("Smoothing limits {0}", limits);
+        var factory = new TeleopsClientFactory();
+        return factory.createStreamingClient(
+                factory.createSmoothingClient(teleopsClient, limits),
+                joints.size(),
+                properties.getOptionInt("streamRate").orElse(100));
+    }
+
+    /**
+     * @return null if joystick input is disabled
+     */
+    private static JoyInput createJoyInput(
+            CommandOptions properties,
+            JRos2Client client,
+            List<String> joints,
+            TeleopsClient teleopsClient) {
+        if (!properties.isOptionTrue("joy")) return null;
+        var defaultMapping =
+                new JoyMapping(
+                        joints.size(),
+                        properties.getOption("joyLinearScale").map(Double::parseDouble).orElse(1.),
+                        properties.getOption("joyAngularScale").map(Double::parseDouble).orElse(1.),
+                        properties.getOption("joyJogScale").map(Double::parseDouble).orElse(1.));
+        var mapping =
+                new JoyMapping(
+                        defaultMapping.twistAxes(),
+                        defaultMapping.twistScales(),
+                        defaultMapping.jogAxes(),
+                        defaultMapping.jogScales(),
+                        properties
+                                .getOption("joyDeadzone")
+                                .map(Double::parseDouble)
+                                .orElse(defaultMapping.deadzone()),
+                        properties.getOptionInt("joyEnableButton").orElse(-1),
+                        defaultMapping.jogModeButton());
+        LOGGER.fine("Joystick mapping {0}", mapping);
+        return new TeleopsUtils()
+                .createJoyInput(
+                        client,
+                        properties
+                                .getOption("joyTopic")
+                                .orElse(TeleopsUtils.DEFAULT_JOY_TOPIC_NAME),
+                        mapping,
+                        teleopsClient);
+    }
+
+    private static TeleopsClient withWatchdog(
+            CommandOptions properties, TeleopsClient teleopsClient) {
+        return properties
+                .getOptionInt("watchdogTimeout")
+                .<TeleopsClient>map(
+                        timeout ->
+                                new TeleopsClientFactory()
+                                        .createWatchdogClient(
+                                                teleopsClient, Duration.ofMillis(timeout)))
+                .orElse(teleopsClient);
+    }
+
+    private static CompletableFuture<List<String>> readJointsAsync(
+            CommandOptions properties, JRos2Client client, String jointStatesTopic) {
+        var utils = new TeleopsUtils();
+        var timeout = getJointsTimeout(properties);
+        return properties.isOptionTrue("cacheJoints")
+                ? utils.readJointsAsync(
+                        client, jointStatesTopic, timeout, TeleopsUtils.DEFAULT_JOINTS_CACHE_DIR)
+                : utils.readJointsAsync(client, jointStatesTopic, timeout);
+    }
+
+    private static List<String> awaitJoints(
+            CommandOptions properties,
+            CompletableFuture<List<String>> joints,
+            String jointStatesTopic) {
+        try {
+            return joints.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException)
+                throw new RuntimeException(
+                        ("No joints were published to %s within %s seconds (see enableJog and"
+                                        + " jointsTimeout options)")
+                                .formatted(
+                                        jointStatesTopic,
+                                        getJointsTimeout(properties).toSeconds()));
+            throw e;
+        }
+    }
+
+    private static Duration getJointsTimeout(CommandOptions properties) {
+        return Duration.ofSeconds(properties.getOptionInt("jointsTimeout").orElse(30));
+    }
+
     private static TeleopsClient createTeleopsClient(
-            CommandOptions properties, JRos2Client client, String frameName, List<String> joints) {
+            CommandOptions properties,
+            JRos2Client client,
+            Optional<SimulatedServo> simulatedServo,
+            String frameName,
+            CompletableFuture<List<String>> joints) {
         var twistTopicName =
                 properties
                         .getOption("twistTopic")
@@ -89,27 +427,114 @@ public class TeleopTwistKeyboardApp {
                 properties
                         .getOption("jogTopic")
                         .orElse(TeleopsClientFactory.DEFAULT_JOG_TOPIC_NAME);
-        var rosRelease =
+        var rosRelease = getRosRelease(properties);
+        var backpressureSettings =
                 properties
-                        .getOption("rosRelease")
-                        .map(RosRelease::valueOf)
-                        .orElse(RosRelease.ROS2_JAZZY);
+                        .getOption("overflowPolicy")
+                        .map(OverflowPolicy::valueOf)
+                        .map(
+                                policy ->
+                                        new BackpressureSettings(
+                                                policy,
+                                                properties
+                                                        .getOptionInt("overflowCapacity")
+                                                        .orElse(1),
+                                                Duration.ofMillis(
+                                                        properties
+                                                                .getOptionInt("overflowTimeout")
+                                                                .orElse(100))));
+        var metricsLogPeriod = properties.getOptionInt("metricsLogPeriod").map(Duration::ofSeconds);
         var factory = new TeleopsClientFactory();
         var startServo = properties.isOptionTrue("startServo");
-        if (properties.isOptionTrue("moveitServo")) {
+        var isServo = properties.isOptionTrue("moveitServo") || simulatedServo.isPresent();
+        Preconditions.isTrue(
+                isServo || !startServo, "startServo requires moveitServo to be enabled");
+        // publishers are created once joints are known, meanwhile the clients which wrap it can
+        // already prepare MoveIt Servo
+        var teleopsClient =
+                new DeferredTeleopsClient(
+                        joints.thenApply(
+                                jointNames ->
+                                        createTeleopsClient(
+                                                factory,
+                                                client,
+                                                frameName,
+                                                jointNames,
+                                                isServo
+                                                        ? TeleopsClientFactory
+                                                                .DEFAULT_TWIST_TOPIC_NAME
+                                                        : twistTopicName,
+                                                isServo
+                                                        ? TeleopsClientFactory
+                                                                .DEFAULT_JOG_TOPIC_NAME
+                                                        : jogTopicName,
+                                                backpressureSettings)));
+        var initialCommandType =
+                properties.getOption("initialCommandType").map(TeleopsCommandType::valueOf);
+        Preconditions.isTrue(
+                initialCommandType.isEmpty() || isServo,
+                "initialCommandType requires moveitServo to be enabled");
+        if (isServo) {
+            // simulated servo is created for the same ROS release
+            Preconditions.isTrue(
+                    initialCommandType.isEmpty() || rosRelease != RosRelease.ROS2_HUMBLE,
+                    "initialCommandType is not supported by MoveIt Servo in ROS2 Humble");
+            var servoInput = withServoFeedback(properties, client, rosRelease, teleopsClient);
+            if (simulatedServo.isPresent()) {
+                var servoClient =
+                        factory.createClientForServo(
+                                simulatedServo.get(), servoInput, initialCommandType);
+                if (metricsLogPeriod.isPresent())
+                    return factory.createMeteredClient(servoClient, metricsLogPeriod);
+                return servoClient;
+            }
+            if (metricsLogPeriod.isPresent())
+                return factory.createMeteredClientForServo(
+                        client,
+                        rosRelease,
+                        servoInput,
+                        !startServo,
+                        initialCommandType,
+                        metricsLogPeriod);
             return switch (rosRelease) {
                 case ROS2_HUMBLE ->
-                        factory.createHumbleClientForServo(client, frameName, joints, !startServo);
-                default -> factory.createJazzyClientForServo(client, frameName, joints);
+                        startServo
+                                ? factory.createHumbleClientForServo(client, servoInput)
+                                : factory.createHumbleClientForServo(client, servoInput, true);
+                default ->
+                        factory.createJazzyClientForServo(client, servoInput, initialCommandType);
             };
-        } else {
-            Preconditions.isTrue(!startServo, "startServo requires moveitServo to be enabled");
-            return factory.createClient(client, frameName, joints, twistTopicName, jogTopicName);
         }
+        if (metricsLogPeriod.isPresent())
+            return factory.createMeteredClient(teleopsClient, metricsLogPeriod);
+        return teleopsClient;
     }
 
-    private static void run(String frameName, List<String> joints, TeleopsClient teleopsClient)
-            throws IOException {
+    private static TeleopsClient createTeleopsClient(
+            TeleopsClientFactory factory,
+            JRos2Client client,
+            String frameName,
+            List<String> joints,
+            String twistTopicName,
+            String jogTopicName,
+            Optional<BackpressureSettings> backpressureSettings) {
+        if (backpressureSettings.isEmpty())
+            return factory.createClient(client, frameName, joints, twistTopicName, jogTopicName);
+        return factory.createClient(
+                client,
+                frameName,
+                joints,
+                twistTopicName,
+                jogTopicName,
+                backpressureSettings.get());
+    }
+
+    private static void run(
+            CommandOptions properties,
+            List<String> joints,
+            TeleopsClient teleopsClient,
+            CompletableFuture<Void> consoleSetup)
+            throws Exception {
         var cli = new CommandLineInterface();
         var jogKeys = "Jog commands are disabled (see -enableJog option)";
         if (!joints.isEmpty()) {
@@ -139,8 +564,16 @@ Keys w, s - move along x axis
 Keys a, d - move along y axis
 Keys q, e - move along z axis
 
+Use following keys to send rotate commands in Cartesian space:
+
+Keys i, k - rotate around x axis (roll)
+Keys j, l - rotate around y axis (pitch)
+Keys u, o - rotate around z axis (yaw)
+
 %s
 
+Hold the key to keep moving, release it to stop.
+
 Additional keys:
 
 Ctrl-C - quit
@@ -148,37 +581,64 @@ Ctrl-C - quit
 To see more help, run 'teleops' with -h option
 """
                         .formatted(jogKeys));
-        Runtime.getRuntime()
-                .addShutdownHook(
-                        new Thread() {
-                            @Override
-                            public void run() {
-                                try {
-                                    CommandLineInterfaceUtils.echo(true);
-                                } catch (Exception e) {
-                                    e.printStackTrace();
-                                }
-                            }
-                        });
         try {
-            CommandLineInterfaceUtils.echo(false);
-            CommandLineInterfaceUtils.nonBlockingSystemInput();
-        } catch (Exception e) {
+            consoleSetup.join();
+        } catch (CompletionException e) {
             cli.printerr(
-                    "Console setup error. Switching to non interactive console: " + e.getMessage());
+                    "Console setup error. Switching to non interactive console: "
+                            + e.getCause().getMessage());
         }
 
-        var jointJogKeyProcessor = new JointJogKeyProcessor(teleopsClient, joints);
-        var cartesianMoveKeyProcessor = new CartesianMoveKeyProcessor(teleopsClient);
-        int key = 0;
-        while ((key = System.in.read()) != -1) {
-            if (key == '\n') continue;
-            if (key == 'r') {
-                jointJogKeyProcessor.reverse();
-                continue;
+        var timings = new StageTimings();
+        try (var publishing = new PublishingStage(teleopsClient, timings)) {
+            var jointJogKeyProcessor = new JointJogKeyProcessor(publishing.getClient(), joints);
+            List<KeyProcessor> processors =
+                    List.of(
+                            new TimedKeyProcessor(
+                                    new CartesianMoveKeyProcessor(publishing.getClient()),
+                                    timings.shaping),
+                            new TimedKeyProcessor(jointJogKeyProcessor, timings.shaping));
+            try (var engine = createKeyInputEngine(properties, processors)) {
+                var input =
+                        Thread.ofVirtual()
+                                .name("teleops-input")
+                                .start(() -> readKeys(jointJogKeyProcessor, engine, timings));
+                input.join();
+            }
+        } finally {
+            LOGGER.info("Pipeline stage timings {0}", timings);
+        }
+    }
+
+    private static KeyInputEngine createKeyInputEngine(
+            CommandOptions properties, List<KeyProcessor> processors) {
+        if (!properties.getOption("keyHold").map(Boolean::parseBoolean).orElse(true))
+            return new KeyQueueInputEngine(processors);
+        return new KeyHoldInputEngine(
+                processors,
+                properties.getOptionInt("keyHoldRate").orElse(50),
+                Duration.ofMillis(properties.getOptionInt("keyRepeatDelay").orElse(700)));
+    }
+
+    /** Input stage: reads the keys and hands them over to the shaping stage */
+    private static void readKeys(
+            JointJogKeyProcessor jointJogKeyProcessor,
+            KeyInputEngine engine,
+            StageTimings timings) {
+        try {
+            int key = 0;
+            while ((key = System.in.read()) != -1) {
+                if (key == '\n') continue;
+                if (key == 'r') {
+                    jointJogKeyProcessor.reverse();
+                    continue;
+                }
+                var startNanos = System.nanoTime();
+                engine.onKey(key);
+                timings.input.record(System.nanoTime() - startNanos);
             }
-            if (cartesianMoveKeyProcessor.process(key)) continue;
-            if (jointJogKeyProcessor.process(key)) continue;
+        } catch (IOException e) {
+            LOGGER.severe("Failed to read keys", e);
         }
     }
 }
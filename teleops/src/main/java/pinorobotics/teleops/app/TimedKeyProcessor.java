@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import pinorobotics.teleops.app.keyprocessors.KeyProcessor;
+import pinorobotics.teleops.impl.LatencyRecorder;
+
+/**
+ * Records how long the given {@link KeyProcessor} takes to process the keys.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class TimedKeyProcessor implements KeyProcessor {
+    private final KeyProcessor processor;
+    private final LatencyRecorder recorder;
+
+    public TimedKeyProcessor(KeyProcessor processor, LatencyRecorder recorder) {
+        this.processor = processor;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public boolean process(int key) {
+        var startNanos = System.nanoTime();
+        try {
+            return processor.process(key);
+        } finally {
+            recorder.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Override
+    public boolean stop(int key) {
+        var startNanos = System.nanoTime();
+        try {
+            return processor.stop(key);
+        } finally {
+            recorder.record(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -22,13 +22,14 @@ import pinorobotics.teleops.TeleopsClient;
 /**
  * @author aeon_flux aeon_flux@eclipso.ch
  */
-public class CartesianMoveKeyProcessor {
+public class CartesianMoveKeyProcessor implements KeyProcessor {
     private TeleopsClient client;
 
     public CartesianMoveKeyProcessor(TeleopsClient client) {
         this.client = client;
     }
 
+    @Override
     public boolean process(int key) {
         switch (key) {
             case 'w':
@@ -61,8 +62,45 @@ public class CartesianMoveKeyProcessor {
                     client.move(0, 0, -1);
                     return true;
                 }
+            case 'i':
+                {
+                    client.moveTwist(0, 0, 0, 1, 0, 0);
+                    return true;
+                }
+            case 'k':
+                {
+                    client.moveTwist(0, 0, 0, -1, 0, 0);
+                    return true;
+                }
+            case 'j':
+                {
+                    client.moveTwist(0, 0, 0, 0, 1, 0);
+                    return true;
+                }
+            case 'l':
+                {
+                    client.moveTwist(0, 0, 0, 0, -1, 0);
+                    return true;
+                }
+            case 'u':
+                {
+                    client.moveTwist(0, 0, 0, 0, 0, 1);
+                    return true;
+                }
+            case 'o':
+                {
+                    client.moveTwist(0, 0, 0, 0, 0, -1);
+                    return true;
+                }
             default:
                 return false;
         }
     }
+
+    @Override
+    public boolean stop(int key) {
+        if ("wsadqeikjluo".indexOf(key) == -1) return false;
+        client.moveTwist(0, 0, 0, 0, 0, 0);
+        return true;
+    }
 }
@@ -24,9 +24,8 @@ import pinorobotics.teleops.TeleopsClient;
 /**
  * @author aeon_flux aeon_flux@eclipso.ch
  */
-public class JointJogKeyProcessor {
+public class JointJogKeyProcessor implements KeyProcessor {
     private static final XLogger LOGGER = XLogger.getLogger(JointJogKeyProcessor.class);
-    private double[][] incVelocities, decVelocities;
     private int numOfJoints;
     private TeleopsClient client;
     private boolean isReversed;
@@ -34,22 +33,22 @@ public class JointJogKeyProcessor {
     public JointJogKeyProcessor(TeleopsClient client, List<String> joints) {
         this.client = client;
         numOfJoints = joints.size();
-        incVelocities = new double[numOfJoints][];
-        decVelocities = new double[numOfJoints][];
-        for (int i = 0; i < numOfJoints; i++) {
-            incVelocities[i] = new double[numOfJoints];
-            incVelocities[i][i] = 1;
-
-            decVelocities[i] = new double[numOfJoints];
-            decVelocities[i][i] = -1;
-        }
     }
 
+    @Override
     public boolean process(int key) {
         LOGGER.fine("New key request key={0}", key);
         int jointNum = key - '0';
         if (jointNum < 0 || jointNum >= numOfJoints) return false;
-        client.move(isReversed ? decVelocities[jointNum] : incVelocities[jointNum]);
+        client.jog(jointNum, isReversed ? -1 : 1);
+        return true;
+    }
+
+    @Override
+    public boolean stop(int key) {
+        int jointNum = key - '0';
+        if (jointNum < 0 || jointNum >= numOfJoints) return false;
+        client.jog(jointNum, 0);
         return true;
     }
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app.keyprocessors;
+
+/**
+ * Translates keys into the movement commands.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface KeyProcessor {
+
+    /**
+     * Send movement command for the given key
+     *
+     * @return false if key is not handled by this processor
+     */
+    boolean process(int key);
+
+    /**
+     * Send command which stops the movement started by {@link #process(int)} for the given key
+     *
+     * @return false if key is not handled by this processor
+     */
+    boolean stop(int key);
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import java.time.Duration;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * Source of commands registered in {@link TeleopsArbiterImpl}.
+ *
+ * <p>Commands are only put into the source mailbox (latest command wins), so sending them never
+ * blocks on the arbiter or on the other sources.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class ArbiterSource implements TeleopsClient {
+    private final TeleopsArbiterImpl arbiter;
+    final String name;
+    final int priority;
+    final long timeoutNanos;
+    final CommandSlot mailbox = new CommandSlot();
+
+    /** Time when the source stops being active, updated after every command put to the mailbox */
+    volatile long expiresNanos;
+
+    ArbiterSource(TeleopsArbiterImpl arbiter, String name, int priority, Duration timeout) {
+        this.arbiter = arbiter;
+        this.name = name;
+        this.priority = priority;
+        timeoutNanos = timeout.toNanos();
+        expiresNanos = System.nanoTime();
+    }
+
+    @Override
+    public void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        mailbox.putTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        touch();
+    }
+
+    @Override
+    public void move(double... velocities) {
+        mailbox.putJog(velocities);
+        touch();
+    }
+
+    @Override
+    public void jog(int jointIndex, double velocity) {
+        mailbox.putJog(jointIndex, velocity);
+        touch();
+    }
+
+    @Override
+    public void jog(int[] jointIndices, double[] velocities) {
+        mailbox.putJog(jointIndices, velocities);
+        touch();
+    }
+
+    /** Time when the latest command was received */
+    long receivedNanos() {
+        return expiresNanos - timeoutNanos;
+    }
+
+    private void touch() {
+        expiresNanos = System.nanoTime() + timeoutNanos;
+        arbiter.wakeUp();
+    }
+
+    /** Unregisters the source, it stops being active immediately */
+    @Override
+    public void close() {
+        arbiter.unregister(this);
+    }
+
+    @Override
+    public String toString() {
+        return name + "(priority " + priority + ")";
+    }
+}
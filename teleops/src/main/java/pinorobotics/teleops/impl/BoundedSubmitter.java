@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jrosclient.TopicSubmissionPublisher;
+import id.jrosmessages.Message;
+import id.xfunction.logging.XLogger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import pinorobotics.teleops.BackpressureSettings;
+import pinorobotics.teleops.SubmissionStats;
+
+/**
+ * Bounded queue in front of {@link TopicSubmissionPublisher}.
+ *
+ * <p>{@link TopicSubmissionPublisher} has its own buffer, which would keep (and later replay) all
+ * commands submitted while transport is stalled. To avoid that, sender thread submits next command
+ * only when transport consumed all the previous ones, while overflow of this queue is handled
+ * according to {@link BackpressureSettings}.
+ *
+ * <p>Since the caller never blocks with some of the policies, messages which are still held by the
+ * submitter (queued or not yet consumed by the transport) can be anything but the most recent ones.
+ * Callers which reuse messages should check {@link #isHeld(Message)} before that.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class BoundedSubmitter<M extends Message> implements AutoCloseable {
+    private static final XLogger LOGGER = XLogger.getLogger(BoundedSubmitter.class);
+
+    /** How often to check if transport is ready to accept next command */
+    private static final long TRANSPORT_POLL_NANOS = 100_000;
+
+    private TopicSubmissionPublisher<M> publisher;
+    private BackpressureSettings settings;
+    private Object[] queue;
+    private int head, count;
+
+    /** Message submitted to the transport which it may still hold */
+    private M inFlight;
+
+    private ReentrantLock lock = new ReentrantLock();
+    private Condition notEmpty = lock.newCondition();
+    private Condition notFull = lock.newCondition();
+    private long submitted, dropped, merged;
+    private Thread sender;
+    private volatile boolean isClosed;
+
+    public BoundedSubmitter(TopicSubmissionPublisher<M> publisher, BackpressureSettings settings) {
+        this.publisher = publisher;
+        this.settings = settings;
+        queue = new Object[settings.capacity()];
+        sender =
+                Thread.ofPlatform()
+                        .name("teleops-submitter-" + publisher.getTopic())
+                        .daemon()
+                        .start(this::run);
+    }
+
+    public void submit(M message) {
+        lock.lock();
+        try {
+            switch (settings.policy()) {
+                case DROP_OLDEST -> {
+                    if (count == queue.length) {
+                        queue[head] = null;
+                        head = (head + 1) % queue.length;
+                        count--;
+                        dropped++;
+                    }
+                }
+                case COALESCE_TO_LATEST -> {
+                    if (count > 0) {
+                        queue[(head + count - 1) % queue.length] = message;
+                        merged++;
+                        return;
+                    }
+                }
+                case BLOCK_WITH_TIMEOUT -> {
+                    var nanos = settings.timeout().toNanos();
+                    while (count == queue.length) {
+                        if (nanos <= 0) {
+                            dropped++;
+                            return;
+                        }
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                }
+            }
+            queue[(head + count) % queue.length] = message;
+            count++;
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Check if message is still held by the submitter or by the transport, such message should not
+     * be modified
+     */
+    public boolean isHeld(M message) {
+        lock.lock();
+        try {
+            if (message == inFlight) return true;
+            for (int i = 0; i < count; i++) {
+                if (queue[(head + i) % queue.length] == message) return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public SubmissionStats getStats() {
+        lock.lock();
+        try {
+            return new SubmissionStats(submitted, dropped, merged);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (awaitCommand()) {
+            M message = take();
+            try {
+                publisher.submit(message);
+            } catch (Exception e) {
+                LOGGER.severe("Failed to submit command", e);
+            }
+            // commands keep being dropped or merged in the queue while transport is busy
+            while (publisher.estimateMaximumLag() > 0 && !isClosed) {
+                LockSupport.parkNanos(TRANSPORT_POLL_NANOS);
+            }
+            release();
+        }
+        LOGGER.fine("Submitter for topic {0} stopped: {1}", publisher.getTopic(), getStats());
+    }
+
+    /**
+     * @return false when submitter is closed and there is no more commands to submit
+     */
+    private boolean awaitCommand() {
+        lock.lock();
+        try {
+            while (count == 0) {
+                if (isClosed) return false;
+                notEmpty.await();
+            }
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private M take() {
+        lock.lock();
+        try {
+            var message = (M) queue[head];
+            queue[head] = null;
+            head = (head + 1) % queue.length;
+            count--;
+            submitted++;
+            inFlight = message;
+            notFull.signal();
+            return message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Transport consumed the message which was submitted last */
+    private void release() {
+        lock.lock();
+        try {
+            inFlight = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Submits all pending commands and stops the sender thread */
+    @Override
+    public void close() throws InterruptedException {
+        lock.lock();
+        try {
+            isClosed = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        sender.join();
+    }
+}
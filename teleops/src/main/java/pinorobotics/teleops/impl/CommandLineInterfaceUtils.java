@@ -34,11 +34,7 @@ public class CommandLineInterfaceUtils {
      * it returns error code the {@link Exception} will be thrown.
      */
     public static void echo(boolean enabled) throws Exception {
-        var exec = new XExec("stty " + (enabled ? "" : "-") + "echo");
-        exec.getProcessBuilder().redirectInput(ProcessBuilder.Redirect.INHERIT);
-        var proc = exec.start();
-        proc.forwardStdoutAsync(false);
-        proc.stderrThrow();
+        stty((enabled ? "" : "-") + "echo");
     }
 
     /**
@@ -50,7 +46,17 @@ public class CommandLineInterfaceUtils {
      * it returns error code the {@link Exception} will be thrown.
      */
     public static void nonBlockingSystemInput() throws Exception {
-        var exec = new XExec("stty -icanon min 1");
+        stty("-icanon min 1");
+    }
+
+    /**
+     * Apply given settings to the terminal with single "stty" call (for example, settings of {@link
+     * #echo(boolean)} and {@link #nonBlockingSystemInput()} can be combined).
+     *
+     * <p>If "stty" is not found or if it returns error code the {@link Exception} will be thrown.
+     */
+    public static void stty(String settings) throws Exception {
+        var exec = new XExec("stty " + settings);
         exec.getProcessBuilder().redirectInput(ProcessBuilder.Redirect.INHERIT);
         var proc = exec.start();
         proc.forwardStdoutAsync(false);
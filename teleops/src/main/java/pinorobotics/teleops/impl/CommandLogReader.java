@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.logging.XLogger;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Reads command log records written by {@link CommandLogWriter} one by one through the fixed size
+ * buffer, so files of any length can be read.
+ *
+ * <p>Record which was only partially written (for example when recording process was killed) is
+ * treated as the end of the log.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class CommandLogReader implements AutoCloseable {
+    private static final XLogger LOGGER = XLogger.getLogger(CommandLogReader.class);
+
+    private ReadableByteChannel channel;
+    private ByteBuffer buffer =
+            ByteBuffer.allocateDirect(CommandLogWriter.BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private Instant recordingStart;
+    private int[] jogIndices = new int[0];
+    private double[] jogVelocities = new double[0];
+
+    public CommandLogReader(Path file) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * @param channel channel positioned at the start of the command log (for example {@link
+     *     System#in}), it is closed together with the reader
+     */
+    public CommandLogReader(ReadableByteChannel channel) throws IOException {
+        this.channel = channel;
+        buffer.limit(0);
+        if (!ensure(Integer.BYTES + Short.BYTES + Long.BYTES)
+                || buffer.getInt() != CommandLogWriter.MAGIC)
+            throw new IOException("Not a command log");
+        var version = buffer.getShort();
+        if (version != CommandLogWriter.VERSION)
+            throw new IOException("Unsupported command log version " + version);
+        recordingStart = Instant.ofEpochMilli(buffer.getLong());
+    }
+
+    /** Time when the recording was started */
+    public Instant getRecordingStart() {
+        return recordingStart;
+    }
+
+    /**
+     * Read next record into the given command
+     *
+     * @return time of the command since the start of the recording (nanos) or -1 if there are no
+     *     more records
+     */
+    public long read(TeleopsCommand command) throws IOException {
+        if (!ensure(Long.BYTES + 1)) return -1;
+        var time = buffer.getLong();
+        var kind = buffer.get();
+        try {
+            switch (kind) {
+                case CommandLogWriter.TWIST -> {
+                    requireBytes(6 * Double.BYTES);
+                    command.setTwist(
+                            buffer.getDouble(),
+                            buffer.getDouble(),
+                            buffer.getDouble(),
+                            buffer.getDouble(),
+                            buffer.getDouble(),
+                            buffer.getDouble());
+                }
+                case CommandLogWriter.JOG -> {
+                    var n = readNumOfJoints(Double.BYTES);
+                    readVelocities(n);
+                    command.setJog(jogVelocities);
+                }
+                case CommandLogWriter.SPARSE_JOG -> {
+                    var n = readNumOfJoints(Integer.BYTES + Double.BYTES);
+                    if (jogIndices.length != n) jogIndices = new int[n];
+                    for (int i = 0; i < n; i++) jogIndices[i] = buffer.getInt();
+                    readVelocities(n);
+                    command.setJog(jogIndices, jogVelocities);
+                }
+                default -> throw new IOException("Unknown command log record kind " + kind);
+            }
+        } catch (EOFException e) {
+            LOGGER.warning("Command log ends with incomplete record, ignoring it");
+            return -1;
+        }
+        return time;
+    }
+
+    /**
+     * Reads number of joints in the jog record and makes sure that the buffer has all their values
+     *
+     * @param bytesPerJoint number of bytes which record has for each joint
+     */
+    private int readNumOfJoints(int bytesPerJoint) throws IOException {
+        requireBytes(Integer.BYTES);
+        var n = buffer.getInt();
+        // checked before multiplication so that it does not overflow
+        if (n < 0 || n > buffer.capacity() / bytesPerJoint)
+            throw new IOException("Corrupt command log: invalid number of joints " + n);
+        requireBytes(n * bytesPerJoint);
+        return n;
+    }
+
+    private void readVelocities(int n) {
+        if (jogVelocities.length != n) jogVelocities = new double[n];
+        for (int i = 0; i < n; i++) jogVelocities[i] = buffer.getDouble();
+    }
+
+    private void requireBytes(int size) throws IOException {
+        if (!ensure(size)) throw new EOFException();
+    }
+
+    /**
+     * Make sure that buffer has at least given number of bytes remaining
+     *
+     * @return false if end of file reached before that
+     */
+    private boolean ensure(int size) throws IOException {
+        if (buffer.remaining() >= size) return true;
+        // otherwise it would keep reading forever
+        if (size > buffer.capacity())
+            throw new IOException(
+                    "Corrupt command log: record of "
+                            + size
+                            + " bytes does not fit into the buffer of "
+                            + buffer.capacity()
+                            + " bytes");
+        buffer.compact();
+        while (buffer.position() < size) {
+            if (channel.read(buffer) == -1) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
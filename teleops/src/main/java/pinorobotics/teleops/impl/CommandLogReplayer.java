@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import pinorobotics.teleops.ReplayReport;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * Sends commands from the command log file (see {@link CommandLogWriter}) to {@link TeleopsClient}
+ * with the same timing as they were recorded.
+ *
+ * <p>Commands are read from the file one by one as they are replayed, so memory usage does not
+ * depend on the length of the recording.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class CommandLogReplayer {
+    private static final XLogger LOGGER = XLogger.getLogger(CommandLogReplayer.class);
+    private TeleopsClient client;
+    private final CommandLogReader reader;
+    private double speed;
+    private TeleopsCommand command = new TeleopsCommand();
+
+    /**
+     * @param speed replay speed relative to the recording, 1 means original timing
+     */
+    public CommandLogReplayer(Path file, TeleopsClient client, double speed) {
+        this(open(file), client, speed);
+    }
+
+    /**
+     * @param reader reader of the command log, it is closed once replay ends
+     * @param speed replay speed relative to the recording, 1 means original timing
+     */
+    public CommandLogReplayer(CommandLogReader reader, TeleopsClient client, double speed) {
+        Preconditions.isTrue(speed > 0, "Replay speed must be positive");
+        this.client = client;
+        this.speed = speed;
+        this.reader = reader;
+    }
+
+    private static CommandLogReader open(Path file) {
+        try {
+            return new CommandLogReader(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open command log file " + file, e);
+        }
+    }
+
+    /** Replay all commands in the current thread */
+    public ReplayReport run() throws IOException {
+        try (reader) {
+            // nobody cancels it, replay ends only when all commands are sent
+            return run(new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Start replaying in a separate thread.
+     *
+     * <p>Replay stops when all commands are sent or when returned future is cancelled. Cancellation
+     * wakes up the replay thread so it does not wait for the next command.
+     */
+    public CompletableFuture<ReplayReport> start() {
+        var future = new CompletableFuture<ReplayReport>();
+        var thread =
+                Thread.ofPlatform()
+                        .name("teleops-replay")
+                        .daemon()
+                        .unstarted(
+                                () -> {
+                                    try (reader) {
+                                        future.complete(run(future));
+                                    } catch (Exception e) {
+                                        LOGGER.severe("Failed to replay the command log", e);
+                                        future.completeExceptionally(e);
+                                    }
+                                });
+        future.whenComplete((report, e) -> LockSupport.unpark(thread));
+        thread.start();
+        return future;
+    }
+
+    private ReplayReport run(CompletableFuture<ReplayReport> future) throws IOException {
+        var startNanos = System.nanoTime();
+        long count = 0;
+        long totalDeviation = 0;
+        long maxDeviation = 0;
+        long time;
+        while (!future.isDone() && (time = reader.read(command)) != -1) {
+            var deadline = startNanos + Math.round(time / speed);
+            if (!SpinWait.untilNanoTime(deadline, future)) break;
+            var deviation = System.nanoTime() - deadline;
+            command.sendTo(client);
+            count++;
+            totalDeviation += deviation;
+            maxDeviation = Math.max(maxDeviation, deviation);
+        }
+        return new ReplayReport(
+                reader.getRecordingStart(),
+                count,
+                Duration.ofNanos(count == 0 ? 0 : totalDeviation / count),
+                Duration.ofNanos(maxDeviation));
+    }
+}
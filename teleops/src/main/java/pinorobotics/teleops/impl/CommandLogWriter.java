@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends movement commands to the command log file.
+ *
+ * <p>File format (little endian):
+ *
+ * <pre>
+ * header: int magic ('TLOG'), short version, long recording start time (epoch millis)
+ * record: long time since recording start (nanos), byte kind, payload
+ *   TWIST:      6 doubles (linear and angular velocities)
+ *   JOG:        int n, n doubles (velocities of all joints)
+ *   SPARSE_JOG: int n, n ints (joint indices), n doubles (velocities)
+ * </pre>
+ *
+ * <p>Records are written through the fixed size direct buffer which is flushed to the file when it
+ * is full, when it was not flushed for {@link #FLUSH_PERIOD_NANOS} and on close. So memory usage
+ * does not depend on the length of the recording and at most last 100ms of the commands can be lost
+ * if the process is killed.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class CommandLogWriter implements AutoCloseable {
+    public static final int MAGIC = 0x544C4F47;
+    public static final short VERSION = 1;
+    public static final byte TWIST = 0;
+    public static final byte JOG = 1;
+    public static final byte SPARSE_JOG = 2;
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final long FLUSH_PERIOD_NANOS = 100_000_000;
+
+    private FileChannel channel;
+    private ByteBuffer buffer =
+            ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long startNanos;
+    private long lastFlushNanos;
+
+    public CommandLogWriter(Path file) throws IOException {
+        channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+        startNanos = System.nanoTime();
+        lastFlushNanos = startNanos;
+        buffer.putInt(MAGIC).putShort(VERSION).putLong(System.currentTimeMillis());
+        flush();
+    }
+
+    public void writeTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        var now = beginRecord(TWIST, 6 * Double.BYTES);
+        buffer.putDouble(velX)
+                .putDouble(velY)
+                .putDouble(velZ)
+                .putDouble(angVelX)
+                .putDouble(angVelY)
+                .putDouble(angVelZ);
+        endRecord(now);
+    }
+
+    public void writeJog(double[] velocities) {
+        var now = beginRecord(JOG, Integer.BYTES + velocities.length * Double.BYTES);
+        buffer.putInt(velocities.length);
+        for (int i = 0; i < velocities.length; i++) buffer.putDouble(velocities[i]);
+        endRecord(now);
+    }
+
+    public void writeJog(int jointIndex, double velocity) {
+        var now = beginRecord(SPARSE_JOG, Integer.BYTES * 2 + Double.BYTES);
+        buffer.putInt(1).putInt(jointIndex).putDouble(velocity);
+        endRecord(now);
+    }
+
+    public void writeJog(int[] jointIndices, double[] velocities) {
+        var now =
+                beginRecord(
+                        SPARSE_JOG,
+                        Integer.BYTES + jointIndices.length * (Integer.BYTES + Double.BYTES));
+        buffer.putInt(jointIndices.length);
+        for (int i = 0; i < jointIndices.length; i++) buffer.putInt(jointIndices[i]);
+        for (int i = 0; i < velocities.length; i++) buffer.putDouble(velocities[i]);
+        endRecord(now);
+    }
+
+    private long beginRecord(byte kind, int payloadSize) {
+        var size = Long.BYTES + 1 + payloadSize;
+        if (buffer.remaining() < size) flush();
+        var now = System.nanoTime();
+        buffer.putLong(now - startNanos).put(kind);
+        return now;
+    }
+
+    private void endRecord(long now) {
+        if (now - lastFlushNanos >= FLUSH_PERIOD_NANOS) flush();
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+        lastFlushNanos = System.nanoTime();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+}
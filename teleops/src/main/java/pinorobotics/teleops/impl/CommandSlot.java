@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.Preconditions;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single slot which holds only the latest movement command (latest value wins).
+ *
+ * <p>Implemented as a sequence lock: readers never block and never allocate, they copy the command
+ * and retry if it was changed in the middle of the copy. Writers are serialized by CAS on the
+ * sequence number.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class CommandSlot {
+    /** Odd while write is in progress */
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final TeleopsCommand command = new TeleopsCommand();
+
+    public void putTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        var seq = beginWrite();
+        try {
+            command.setTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        } finally {
+            endWrite(seq);
+        }
+    }
+
+    public void putJog(double[] velocities) {
+        var seq = beginWrite();
+        try {
+            command.setJog(velocities);
+        } finally {
+            endWrite(seq);
+        }
+    }
+
+    public void putJog(int jointIndex, double velocity) {
+        var seq = beginWrite();
+        try {
+            command.setJog(jointIndex, velocity);
+        } finally {
+            endWrite(seq);
+        }
+    }
+
+    public void putJog(int[] jointIndices, double[] velocities) {
+        // validated before the write so that the slot never holds half written command
+        Preconditions.equals(
+                jointIndices.length,
+                velocities.length,
+                "mismatch between number of joint indices and velocities");
+        var seq = beginWrite();
+        try {
+            command.setJog(jointIndices, velocities);
+        } finally {
+            endWrite(seq);
+        }
+    }
+
+    public void put(TeleopsCommand other) {
+        var seq = beginWrite();
+        try {
+            command.copyFrom(other);
+        } finally {
+            endWrite(seq);
+        }
+    }
+
+    /** Empty the slot */
+    public void clear() {
+        var seq = beginWrite();
+        try {
+            command.type = null;
+        } finally {
+            endWrite(seq);
+        }
+    }
+
+    /**
+     * Copy latest command to the given holder
+     *
+     * @return version of the command which was copied, it changes with every write so it can be
+     *     used to detect new commands
+     */
+    public long read(TeleopsCommand out) {
+        while (true) {
+            var seq = sequence.get();
+            if ((seq & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            // jog arrays may be replaced by the writer, copy the ones which were read
+            var jog = command.jog;
+            var jogIndices = command.jogIndices;
+            switch (command.type) {
+                case TWIST -> out.setTwist(command.twist);
+                case JOG -> {
+                    if (!command.isSparseJog) out.setJog(jog);
+                    else if (jogIndices.length == jog.length) out.setJog(jogIndices, jog);
+                    else {
+                        // arrays of different length mean the copy is torn, out is left
+                        // unchanged so it must be retried instead of returning stale command
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                }
+                case null -> out.type = null;
+            }
+            VarHandle.acquireFence();
+            if (sequence.get() == seq) return seq;
+        }
+    }
+
+    /** Version of the latest command */
+    public long version() {
+        return sequence.get();
+    }
+
+    /** Always called (even if write failed), otherwise readers would spin forever */
+    private void endWrite(long seq) {
+        sequence.set(seq + 2);
+    }
+
+    private long beginWrite() {
+        while (true) {
+            var seq = sequence.get();
+            if ((seq & 1) == 0 && sequence.compareAndSet(seq, seq + 1)) return seq;
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import pinorobotics.teleops.DeduplicatingTeleopsClient;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * Compares each command with the copy of the last published one, so no allocations happen per
+ * command.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class DeduplicatingTeleopsClientImpl implements DeduplicatingTeleopsClient {
+    private static final XLogger LOGGER = XLogger.getLogger(DeduplicatingTeleopsClientImpl.class);
+
+    private TeleopsClient client;
+    private long keepalivePeriodNanos;
+    private TeleopsCommand lastCommand = new TeleopsCommand();
+    private long lastPublishNanos;
+    private volatile long publishedCount;
+    private volatile long suppressedCount;
+
+    /**
+     * @param keepaliveRate rate (Hz) with which identical commands are still published
+     */
+    public DeduplicatingTeleopsClientImpl(TeleopsClient client, double keepaliveRate) {
+        Preconditions.isTrue(keepaliveRate > 0, "Keepalive rate must be positive");
+        this.client = client;
+        keepalivePeriodNanos = Math.round(1_000_000_000 / keepaliveRate);
+    }
+
+    @Override
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        if (isDuplicate(lastCommand.isTwist(velX, velY, velZ, angVelX, angVelY, angVelZ))) return;
+        client.moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        lastCommand.setTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+    }
+
+    @Override
+    public synchronized void move(double... velocities) {
+        if (isDuplicate(lastCommand.isJog(velocities))) return;
+        client.move(velocities);
+        lastCommand.setJog(velocities);
+    }
+
+    @Override
+    public synchronized void jog(int jointIndex, double velocity) {
+        if (isDuplicate(lastCommand.isJog(jointIndex, velocity))) return;
+        client.jog(jointIndex, velocity);
+        lastCommand.setJog(jointIndex, velocity);
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        if (isDuplicate(lastCommand.isJog(jointIndices, velocities))) return;
+        client.jog(jointIndices, velocities);
+        lastCommand.setJog(jointIndices, velocities);
+    }
+
+    /**
+     * @param isSame true if command is same as the last published one
+     * @return true if command should be suppressed, otherwise it is counted as published
+     */
+    private boolean isDuplicate(boolean isSame) {
+        var now = System.nanoTime();
+        if (isSame && now - lastPublishNanos < keepalivePeriodNanos) {
+            suppressedCount++;
+            return true;
+        }
+        lastPublishNanos = now;
+        publishedCount++;
+        return false;
+    }
+
+    @Override
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    @Override
+    public long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    @Override
+    public void close() throws Exception {
+        LOGGER.info(
+                "Published {0} commands, suppressed {1} duplicate commands",
+                publishedCount, suppressedCount);
+        client.close();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jros2messages.control_msgs.JointJogMessage;
+import id.jros2messages.geometry_msgs.TwistStampedMessage;
+import id.jrosclient.TopicSubmissionPublisher;
+import id.jrosmessages.Message;
+import id.xfunction.logging.XLogger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import pinorobotics.teleops.FanOutTarget;
+import pinorobotics.teleops.FanOutTargetStats;
+
+/**
+ * Publishes commands to a single {@link FanOutTarget} from its own thread.
+ *
+ * <p>Only the latest command is kept: if the target can not keep up, older commands are replaced by
+ * the newer ones.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class FanOutSender implements AutoCloseable {
+    private static final XLogger LOGGER = XLogger.getLogger(FanOutSender.class);
+
+    /** Message shared by all the senders together with the time when the command was received */
+    public record Command(Message message, long receivedNanos) {}
+
+    private FanOutTarget target;
+    private TopicSubmissionPublisher<TwistStampedMessage> publisherTwist;
+    private TopicSubmissionPublisher<JointJogMessage> publisherJog;
+    private AtomicReference<Command> pending = new AtomicReference<>();
+    private LatencyRecorder latency = new LatencyRecorder();
+    private Thread thread;
+    private volatile boolean isClosed;
+    private volatile long published;
+    private volatile long superseded;
+
+    public FanOutSender(FanOutTarget target, String threadName) {
+        this.target = target;
+        publisherTwist =
+                new TopicSubmissionPublisher<>(TwistStampedMessage.class, target.twistTopicName());
+        publisherJog = new TopicSubmissionPublisher<>(JointJogMessage.class, target.jogTopicName());
+        target.client().publish(publisherTwist);
+        target.client().publish(publisherJog);
+        thread = new Thread(this::run, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Must be called from one thread at a time */
+    public void offer(Command command) {
+        if (pending.getAndSet(command) != null) superseded++;
+        LockSupport.unpark(thread);
+    }
+
+    public FanOutTargetStats getStats() {
+        return new FanOutTargetStats(target, published, superseded, latency.snapshot());
+    }
+
+    private void run() {
+        while (!isClosed) {
+            var command = pending.getAndSet(null);
+            if (command == null) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                switch (command.message()) {
+                    case TwistStampedMessage twist -> publisherTwist.submit(twist);
+                    case JointJogMessage jog -> publisherJog.submit(jog);
+                    default ->
+                            throw new IllegalArgumentException(
+                                    "Unsupported message " + command.message().getClass());
+                }
+                published++;
+                latency.record(System.nanoTime() - command.receivedNanos());
+            } catch (Exception e) {
+                LOGGER.severe("Failed to publish command to " + target, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        isClosed = true;
+        LockSupport.unpark(thread);
+        thread.join();
+        publisherTwist.close();
+        publisherJog.close();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jros2messages.control_msgs.JointJogMessage;
+import id.jros2messages.geometry_msgs.TwistStampedMessage;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosmessages.Message;
+import id.jrosmessages.geometry_msgs.TwistMessage;
+import id.jrosmessages.geometry_msgs.Vector3Message;
+import id.jrosmessages.primitives.Time;
+import id.jrosmessages.std_msgs.StringMessage;
+import id.xfunction.PreconditionException;
+import id.xfunction.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import pinorobotics.teleops.FanOutTarget;
+import pinorobotics.teleops.FanOutTargetStats;
+import pinorobotics.teleops.FanOutTeleopsClient;
+
+/**
+ * Builds each message once and hands it over to {@link FanOutSender} of every target.
+ *
+ * <p>Unlike {@link TeleopsClientImpl}, messages are not reused: the same message may be still
+ * queued by the slowest target long after the others published it. Instead, one message is
+ * allocated per command regardless of the number of targets.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class FanOutTeleopsClientImpl implements FanOutTeleopsClient {
+    private String frameName;
+    private StringMessage[] joints;
+    private List<FanOutSender> senders = new ArrayList<>();
+
+    public FanOutTeleopsClientImpl(
+            String frameName, List<String> joints, List<FanOutTarget> targets) {
+        Preconditions.isTrue(!targets.isEmpty(), "List of targets is empty");
+        this.frameName = frameName;
+        this.joints = joints.stream().map(StringMessage::new).toArray(StringMessage[]::new);
+        IntStream.range(0, targets.size())
+                .forEach(i -> senders.add(new FanOutSender(targets.get(i), "teleops-fanout-" + i)));
+    }
+
+    @Override
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        var receivedNanos = System.nanoTime();
+        var message =
+                new TwistStampedMessage()
+                        .withHeader(newHeader())
+                        .withTwist(
+                                new TwistMessage()
+                                        .withLinear(new Vector3Message(velX, velY, velZ))
+                                        .withAngular(
+                                                new Vector3Message(angVelX, angVelY, angVelZ)));
+        offer(message, receivedNanos);
+    }
+
+    @Override
+    public synchronized void move(double... velocities) {
+        var receivedNanos = System.nanoTime();
+        Preconditions.equals(
+                joints.length,
+                velocities.length,
+                "mismatch between number of velocities and joints");
+        // move only joints with non zero velocities
+        var count = 0;
+        for (int i = 0; i < velocities.length; i++) {
+            if (velocities[i] != 0) count++;
+        }
+        var jointNames = new StringMessage[count];
+        var jointVelocities = new double[count];
+        for (int i = 0, j = 0; i < velocities.length; i++) {
+            if (velocities[i] == 0) continue;
+            jointNames[j] = joints[i];
+            jointVelocities[j] = velocities[i];
+            j++;
+        }
+        offer(newJogMessage(jointNames, jointVelocities), receivedNanos);
+    }
+
+    @Override
+    public synchronized void jog(int jointIndex, double velocity) {
+        var receivedNanos = System.nanoTime();
+        checkJointIndex(jointIndex);
+        offer(
+                newJogMessage(new StringMessage[] {joints[jointIndex]}, new double[] {velocity}),
+                receivedNanos);
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        var receivedNanos = System.nanoTime();
+        Preconditions.equals(
+                jointIndices.length,
+                velocities.length,
+                "mismatch between number of joint indices and velocities");
+        if (velocities.length > joints.length)
+            throw new PreconditionException("number of velocities exceeds number of joints");
+        var jointNames = new StringMessage[jointIndices.length];
+        for (int i = 0; i < jointIndices.length; i++) {
+            checkJointIndex(jointIndices[i]);
+            jointNames[i] = joints[jointIndices[i]];
+        }
+        offer(newJogMessage(jointNames, velocities.clone()), receivedNanos);
+    }
+
+    private void checkJointIndex(int jointIndex) {
+        // varargs Preconditions.isTrue would allocate empty arguments array on each command
+        if (jointIndex < 0 || jointIndex >= joints.length)
+            throw new PreconditionException("joint index is out of range");
+    }
+
+    @Override
+    public List<FanOutTargetStats> getTargetStats() {
+        return senders.stream().map(FanOutSender::getStats).toList();
+    }
+
+    private JointJogMessage newJogMessage(StringMessage[] jointNames, double[] velocities) {
+        return new JointJogMessage()
+                .withHeader(newHeader())
+                .withJointNames(jointNames)
+                .withVelocities(velocities);
+    }
+
+    private HeaderMessage newHeader() {
+        var stamp = new Time();
+        StampClock.stamp(stamp);
+        return new HeaderMessage().withStamp(stamp).withFrameId(frameName);
+    }
+
+    private void offer(Message message, long receivedNanos) {
+        var command = new FanOutSender.Command(message, receivedNanos);
+        for (int i = 0; i < senders.size(); i++) senders.get(i).offer(command);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (var sender : senders) sender.close();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.PreconditionException;
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.time.Duration;
+import pinorobotics.teleops.StreamingStats;
+import pinorobotics.teleops.StreamingTeleopsClient;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * Publishes the latest command with the fixed rate.
+ *
+ * <p>Scheduler thread waits for each deadline with {@link SpinWait} which keeps the jitter low.
+ * Deadlines are absolute so the rate does not drift. If publishing falls behind by more than one
+ * period the missed ticks are skipped instead of being published in a burst.
+ *
+ * <p>Commands are validated in the caller thread, so that invalid command fails the call instead of
+ * failing on each tick of the scheduler thread.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class FixedRateTeleopsClient implements StreamingTeleopsClient {
+    private static final XLogger LOGGER = XLogger.getLogger(FixedRateTeleopsClient.class);
+
+    /** Failures repeat on every tick, so they are logged at most once per this period */
+    private static final long FAILURE_LOG_PERIOD_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private TeleopsClient client;
+    private int numOfJoints;
+    private CommandSlot latestCommand = new CommandSlot();
+    private double rate;
+    private long periodNanos;
+    private Thread scheduler;
+    private volatile boolean isClosed;
+
+    // accessed only by the scheduler thread, volatile to make stats visible to other threads
+    private volatile long publishedCount;
+    private volatile long startNanos;
+    private volatile long totalJitterNanos;
+    private volatile long maxJitterNanos;
+
+    // accessed only by the scheduler thread
+    private long failureLoggedNanos;
+    private long failureCount;
+
+    /**
+     * @param client client which will be used to publish the commands
+     * @param numOfJoints number of joints in the robot, used to validate jog commands
+     * @param rate publishing rate in Hz
+     */
+    public FixedRateTeleopsClient(TeleopsClient client, int numOfJoints, double rate) {
+        Preconditions.isTrue(rate > 0, "Rate must be positive");
+        this.client = client;
+        this.numOfJoints = numOfJoints;
+        this.rate = rate;
+        periodNanos = Math.round(1_000_000_000 / rate);
+        scheduler = new Thread(this::run, "teleops-streaming");
+        scheduler.setDaemon(true);
+        scheduler.setPriority(Thread.MAX_PRIORITY);
+        scheduler.start();
+    }
+
+    @Override
+    public void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        latestCommand.putTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+    }
+
+    @Override
+    public void move(double... velocities) {
+        Preconditions.equals(
+                numOfJoints, velocities.length, "mismatch between number of velocities and joints");
+        latestCommand.putJog(velocities);
+    }
+
+    @Override
+    public void jog(int jointIndex, double velocity) {
+        checkJointIndex(jointIndex);
+        latestCommand.putJog(jointIndex, velocity);
+    }
+
+    @Override
+    public void jog(int[] jointIndices, double[] velocities) {
+        for (int i = 0; i < jointIndices.length; i++) {
+            checkJointIndex(jointIndices[i]);
+        }
+        latestCommand.putJog(jointIndices, velocities);
+    }
+
+    private void checkJointIndex(int jointIndex) {
+        // varargs Preconditions.isTrue would allocate empty arguments array on each command
+        if (jointIndex < 0 || jointIndex >= numOfJoints)
+            throw new PreconditionException("joint index is out of range");
+    }
+
+    @Override
+    public StreamingStats getStreamingStats() {
+        var count = publishedCount;
+        var elapsedNanos = System.nanoTime() - startNanos;
+        return new StreamingStats(
+                count,
+                rate,
+                count == 0 ? 0 : count * 1_000_000_000. / elapsedNanos,
+                Duration.ofNanos(count == 0 ? 0 : totalJitterNanos / count),
+                Duration.ofNanos(maxJitterNanos));
+    }
+
+    private void run() {
+        var command = new TeleopsCommand();
+        startNanos = System.nanoTime();
+        var deadline = startNanos;
+        while (!isClosed) {
+            deadline += periodNanos;
+            SpinWait.untilNanoTime(deadline);
+            var now = System.nanoTime();
+            latestCommand.read(command);
+            if (command.type == null) continue;
+            try {
+                command.sendTo(client);
+            } catch (Exception e) {
+                logFailure(e, now);
+            }
+            var jitter = now - deadline;
+            publishedCount++;
+            totalJitterNanos += jitter;
+            if (jitter > maxJitterNanos) maxJitterNanos = jitter;
+            if (System.nanoTime() - deadline > periodNanos) {
+                LOGGER.fine("Publishing is behind the schedule, skipping missed ticks");
+                deadline = System.nanoTime();
+            }
+        }
+    }
+
+    private void logFailure(Exception e, long now) {
+        failureCount++;
+        if (failureLoggedNanos != 0 && now - failureLoggedNanos < FAILURE_LOG_PERIOD_NANOS) return;
+        failureLoggedNanos = now;
+        LOGGER.severe("Failed to publish command (failures so far: " + failureCount + ")", e);
+    }
+
+    @Override
+    public void close() throws Exception {
+        isClosed = true;
+        scheduler.join();
+        client.close();
+    }
+}
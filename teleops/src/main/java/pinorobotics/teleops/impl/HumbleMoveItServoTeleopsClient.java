@@ -17,44 +17,135 @@
  */
 package pinorobotics.teleops.impl;
 
-import pinorobotics.jros2moveit.JRos2MoveItServoClient;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import pinorobotics.teleops.ServoTeleopsClient;
 import pinorobotics.teleops.TeleopsClient;
 
 /**
+ * Makes sure that MoveIt Servo is started before publishing any commands to it.
+ *
+ * <p>MoveIt Servo can be started either by the first movement command or in the background as soon
+ * as the client is created (see {@link #startServoAsync(TeleopsClient, MoveItServoControl)}). In
+ * the latter case the first movement command waits only for the remaining startup time.
+ *
  * @author aeon_flux aeon_flux@eclipso.ch
  */
-public class HumbleMoveItServoTeleopsClient implements TeleopsClient {
+public class HumbleMoveItServoTeleopsClient implements ServoTeleopsClient {
     private TeleopsClient client;
-    private JRos2MoveItServoClient servoClient;
-    private boolean isServoStarted;
+    private MoveItServoControl servoClient;
+    private volatile CompletableFuture<Void> servoReady;
+    private boolean isStartRequested;
+    private volatile boolean isServoStarted;
 
+    /**
+     * @param isServoStarted if false, MoveIt Servo is started by the first movement command
+     */
     public HumbleMoveItServoTeleopsClient(
-            TeleopsClient client, JRos2MoveItServoClient servoClient, boolean isServoStarted) {
+            TeleopsClient client, MoveItServoControl servoClient, boolean isServoStarted) {
         this.client = client;
         this.servoClient = servoClient;
         this.isServoStarted = isServoStarted;
+        isStartRequested = isServoStarted;
+        servoReady =
+                isServoStarted
+                        ? CompletableFuture.completedFuture(null)
+                        : new CompletableFuture<>();
+    }
+
+    /**
+     * Creates client and starts MoveIt Servo in the background.
+     *
+     * <p>If background start fails, MoveIt Servo is started again by the next movement command.
+     */
+    public static HumbleMoveItServoTeleopsClient startServoAsync(
+            TeleopsClient client, MoveItServoControl servoClient) {
+        var teleopsClient = new HumbleMoveItServoTeleopsClient(client, servoClient, false);
+        teleopsClient.isStartRequested = true;
+        var servoReady = teleopsClient.servoReady;
+        Thread.ofPlatform()
+                .name("teleops-servo-start")
+                .daemon()
+                .start(
+                        () -> {
+                            try {
+                                servoClient.startServo();
+                                servoReady.complete(null);
+                            } catch (RuntimeException e) {
+                                // reset before failing the future so that anyone who observes
+                                // the failure can retry
+                                teleopsClient.resetStart(servoReady);
+                                servoReady.completeExceptionally(e);
+                            }
+                        });
+        return teleopsClient;
+    }
+
+    @Override
+    public CompletableFuture<Void> getServoReady() {
+        return servoReady;
     }
 
     @Override
-    public void close() {
+    public void close() throws Exception {
         servoClient.close();
+        client.close();
     }
 
     @Override
-    public void move(double velX, double velY, double velZ) {
-        if (!isServoStarted) {
-            servoClient.startServo();
-            isServoStarted = true;
-        }
-        client.move(velX, velY, velZ);
+    public void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        if (!isServoStarted) awaitServo();
+        client.moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
     }
 
     @Override
     public void move(double... velocities) {
-        if (!isServoStarted) {
-            servoClient.startServo();
-            isServoStarted = true;
-        }
+        if (!isServoStarted) awaitServo();
         client.move(velocities);
     }
+
+    @Override
+    public void jog(int jointIndex, double velocity) {
+        if (!isServoStarted) awaitServo();
+        client.jog(jointIndex, velocity);
+    }
+
+    @Override
+    public void jog(int[] jointIndices, double[] velocities) {
+        if (!isServoStarted) awaitServo();
+        client.jog(jointIndices, velocities);
+    }
+
+    private void awaitServo() {
+        CompletableFuture<Void> servoReady;
+        synchronized (this) {
+            servoReady = this.servoReady;
+            if (!isStartRequested) {
+                isStartRequested = true;
+                try {
+                    servoClient.startServo();
+                    servoReady.complete(null);
+                } catch (RuntimeException e) {
+                    resetStart(servoReady);
+                    servoReady.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            servoReady.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+        isServoStarted = true;
+    }
+
+    /** Lets the next command retry to start MoveIt Servo after the failed attempt */
+    private synchronized void resetStart(CompletableFuture<Void> failed) {
+        if (servoReady != failed) return;
+        isStartRequested = false;
+        servoReady = new CompletableFuture<>();
+    }
 }
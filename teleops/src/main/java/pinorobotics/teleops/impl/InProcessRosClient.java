@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jros2client.JRos2Client;
+import id.jrosclient.TopicPublisher;
+import id.jrosclient.TopicSubscriber;
+import id.jrosmessages.Message;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process message bus which implements topic publishing and subscribing of {@link JRos2Client}
+ * without any ROS transport.
+ *
+ * <p>Messages published to the topic are delivered to all its subscribers on the publisher thread.
+ * Same as with ROS, messages are dropped when subscriber did not request more of them. Other
+ * operations of {@link JRos2Client} (services, actions etc) are not supported.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class InProcessRosClient {
+
+    private final Map<String, List<TopicSubscription>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, List<Subscription>> publishers = new ConcurrentHashMap<>();
+    private final JRos2Client client;
+
+    public InProcessRosClient() {
+        client =
+                (JRos2Client)
+                        Proxy.newProxyInstance(
+                                JRos2Client.class.getClassLoader(),
+                                new Class<?>[] {JRos2Client.class},
+                                (proxy, method, args) -> {
+                                    switch (method.getName()) {
+                                        case "publish" -> publish((TopicPublisher<?>) args[0]);
+                                        case "subscribe" -> subscribe((TopicSubscriber<?>) args[0]);
+                                        case "unpublish" -> unpublish((String) args[0]);
+                                        case "close" -> close();
+                                        case "hashCode" -> {
+                                            return System.identityHashCode(proxy);
+                                        }
+                                        case "equals" -> {
+                                            return proxy == args[0];
+                                        }
+                                        case "toString" -> {
+                                            return InProcessRosClient.class.getSimpleName();
+                                        }
+                                        default ->
+                                                throw new UnsupportedOperationException(
+                                                        "In-process ROS client does not support "
+                                                                + method.getName());
+                                    }
+                                    return null;
+                                });
+    }
+
+    /** Client which publishes and subscribes to the topics of this bus */
+    public JRos2Client getClient() {
+        return client;
+    }
+
+    private <M extends Message> void publish(TopicPublisher<M> publisher) {
+        var topic = publisher.getTopic();
+        publisher.subscribe(
+                new Subscriber<M>() {
+                    private Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        this.subscription = subscription;
+                        publishers
+                                .computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>())
+                                .add(subscription);
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(M item) {
+                        for (var subscriber : subscribers.getOrDefault(topic, List.of()))
+                            subscriber.deliver(item);
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {}
+
+                    @Override
+                    public void onComplete() {}
+                });
+    }
+
+    private void unpublish(String topic) {
+        var subscriptions = publishers.remove(topic);
+        if (subscriptions != null) subscriptions.forEach(Subscription::cancel);
+    }
+
+    private <M extends Message> void subscribe(TopicSubscriber<M> subscriber) {
+        var subscription = new TopicSubscription(subscriber);
+        subscribers
+                .computeIfAbsent(subscriber.getTopic(), t -> new CopyOnWriteArrayList<>())
+                .add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private void close() {
+        publishers.keySet().forEach(this::unpublish);
+        subscribers.values().forEach(list -> list.forEach(TopicSubscription::cancel));
+    }
+
+    private class TopicSubscription implements Subscription {
+        private final TopicSubscriber<?> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+
+        TopicSubscription(TopicSubscriber<?> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @SuppressWarnings("unchecked")
+        void deliver(Message message) {
+            if (demand.getAndUpdate(d -> d > 0 && d != Long.MAX_VALUE ? d - 1 : d) == 0) return;
+            ((Subscriber<Message>) subscriber).onNext(message);
+        }
+
+        @Override
+        public void request(long n) {
+            demand.accumulateAndGet(n, (d, x) -> d + x < 0 ? Long.MAX_VALUE : d + x);
+        }
+
+        @Override
+        public void cancel() {
+            var list = subscribers.get(subscriber.getTopic());
+            if (list != null) list.remove(this);
+        }
+    }
+}
@@ -18,48 +18,158 @@
 package pinorobotics.teleops.impl;
 
 import id.xfunction.logging.XLogger;
-import pinorobotics.jros2moveit.JRos2MoveItServoClient;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import pinorobotics.jros2moveit.JRos2MoveItServoClient.CommandType;
+import pinorobotics.teleops.ServoTeleopsClient;
 import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
 
 /**
+ * Switches MoveIt Servo command type whenever the type of the movement command changes.
+ *
+ * <p>Switching is done asynchronously so that the caller is never blocked by the service call.
+ * While switch is in progress only the latest command of the new type is kept and it is published
+ * as soon as MoveIt Servo confirms the switch.
+ *
  * @author aeon_flux aeon_flux@eclipso.ch
  */
-public class JazzyMoveItServoTeleopsClient implements TeleopsClient {
+public class JazzyMoveItServoTeleopsClient implements ServoTeleopsClient {
     private static final XLogger LOGGER = XLogger.getLogger(JazzyMoveItServoTeleopsClient.class);
     private TeleopsClient client;
-    private JRos2MoveItServoClient servoClient;
-    private CommandType previousCommandType;
+    private MoveItServoControl servoClient;
+    private ExecutorService switcher =
+            Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("teleops-servo-switch").daemon().factory());
 
-    public JazzyMoveItServoTeleopsClient(TeleopsClient client, JRos2MoveItServoClient servoClient) {
+    /** Command type which MoveIt Servo currently uses */
+    private TeleopsCommandType currentCommandType;
+
+    /** Command type of the latest movement command */
+    private TeleopsCommandType requestedCommandType;
+
+    /** Latest command received while switch to its type is in progress */
+    private TeleopsCommand pendingCommand = new TeleopsCommand();
+
+    private CompletableFuture<Void> servoReady = new CompletableFuture<>();
+
+    public JazzyMoveItServoTeleopsClient(TeleopsClient client, MoveItServoControl servoClient) {
+        this(client, servoClient, Optional.empty());
+    }
+
+    /**
+     * @param initialCommandType if present, switch MoveIt Servo to this command type right away
+     */
+    public JazzyMoveItServoTeleopsClient(
+            TeleopsClient client,
+            MoveItServoControl servoClient,
+            Optional<TeleopsCommandType> initialCommandType) {
         this.client = client;
         this.servoClient = servoClient;
+        initialCommandType.ifPresentOrElse(this::requestSwitch, () -> servoReady.complete(null));
     }
 
     @Override
-    public void close() {
+    public CompletableFuture<Void> getServoReady() {
+        return servoReady;
+    }
+
+    @Override
+    public void close() throws Exception {
+        switcher.shutdownNow();
         servoClient.close();
+        client.close();
+    }
+
+    @Override
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        if (isCurrent(TeleopsCommandType.TWIST)) {
+            client.moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+            return;
+        }
+        requestSwitch(TeleopsCommandType.TWIST);
+        pendingCommand.setTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
     }
 
     @Override
-    public void move(double velX, double velY, double velZ) {
-        if (previousCommandType != CommandType.TWIST) {
-            LOGGER.info("Switch command type to TWIST");
-            servoClient.switchCommandType(CommandType.TWIST);
-            LOGGER.info("Current command type is TWIST");
-            previousCommandType = CommandType.TWIST;
+    public synchronized void move(double... velocities) {
+        if (isCurrent(TeleopsCommandType.JOG)) {
+            client.move(velocities);
+            return;
         }
-        client.move(velX, velY, velZ);
+        requestSwitch(TeleopsCommandType.JOG);
+        pendingCommand.setJog(velocities);
     }
 
     @Override
-    public void move(double... velocities) {
-        if (previousCommandType != CommandType.JOINT_JOG) {
-            LOGGER.info("Switch command type to JOG");
-            servoClient.switchCommandType(CommandType.JOINT_JOG);
-            LOGGER.info("Current command type is JOG");
-            previousCommandType = CommandType.JOINT_JOG;
+    public synchronized void jog(int jointIndex, double velocity) {
+        if (isCurrent(TeleopsCommandType.JOG)) {
+            client.jog(jointIndex, velocity);
+            return;
+        }
+        requestSwitch(TeleopsCommandType.JOG);
+        pendingCommand.setJog(jointIndex, velocity);
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        if (isCurrent(TeleopsCommandType.JOG)) {
+            client.jog(jointIndices, velocities);
+            return;
+        }
+        requestSwitch(TeleopsCommandType.JOG);
+        pendingCommand.setJog(jointIndices, velocities);
+    }
+
+    private boolean isCurrent(TeleopsCommandType type) {
+        return currentCommandType == type && requestedCommandType == type;
+    }
+
+    private synchronized void requestSwitch(TeleopsCommandType type) {
+        if (requestedCommandType == type) return;
+        requestedCommandType = type;
+        // commands of the previous type are not relevant anymore
+        pendingCommand.type = null;
+        switcher.execute(() -> switchCommandType(type));
+    }
+
+    /** Runs in the switcher thread */
+    private void switchCommandType(TeleopsCommandType type) {
+        LOGGER.info("Switch command type to {0}", type);
+        try {
+            servoClient.switchCommandType(
+                    switch (type) {
+                        case TWIST -> CommandType.TWIST;
+                        case JOG -> CommandType.JOINT_JOG;
+                    });
+        } catch (Exception e) {
+            LOGGER.severe("Failed to switch command type to " + type, e);
+            servoReady.completeExceptionally(e);
+            synchronized (this) {
+                // let the next command of this type retry the switch
+                if (requestedCommandType == type) {
+                    requestedCommandType = currentCommandType;
+                    pendingCommand.type = null;
+                }
+            }
+            return;
+        }
+        LOGGER.info("Current command type is {0}", type);
+        servoReady.complete(null);
+        synchronized (this) {
+            currentCommandType = type;
+            // otherwise another switch is already queued after this one
+            if (requestedCommandType != type) return;
+            try {
+                pendingCommand.sendTo(client);
+            } catch (Exception e) {
+                LOGGER.severe("Failed to publish pending command", e);
+            } finally {
+                pendingCommand.type = null;
+            }
         }
-        client.move(velocities);
     }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+/**
+ * Moves velocities towards the target ones without exceeding the acceleration and jerk limits.
+ *
+ * <p>Acceleration of each axis is reduced as its velocity approaches the target (down to zero at
+ * the target), so that velocity does not overshoot it. State is kept in primitive arrays and {@link
+ * #step(double[], double)} does not allocate.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class JerkLimitedFilter {
+    private final double[] accelerationLimits;
+    private final double[] jerkLimits;
+    private final double[] velocities;
+    private final double[] accelerations;
+
+    public JerkLimitedFilter(double[] accelerationLimits, double[] jerkLimits) {
+        this.accelerationLimits = accelerationLimits;
+        this.jerkLimits = jerkLimits;
+        velocities = new double[accelerationLimits.length];
+        accelerations = new double[accelerationLimits.length];
+    }
+
+    /**
+     * Advance the filter by the given time
+     *
+     * @param targets target velocities
+     * @param dt time step in seconds
+     * @return current velocities, array is owned by the filter
+     */
+    public double[] step(double[] targets, double dt) {
+        if (dt <= 0) return velocities;
+        for (int i = 0; i < velocities.length; i++) {
+            var error = targets[i] - velocities[i];
+            if (error == 0 && accelerations[i] == 0) continue;
+            var jerk = jerkLimits[i];
+            double desired;
+            if (error == 0) desired = 0;
+            // acceleration can be changed instantly (and sqrt below would give infinity * 0 = NaN)
+            else if (Double.isInfinite(jerk)) desired = Math.copySign(accelerationLimits[i], error);
+            // highest acceleration from which it still can be reduced to zero at the target
+            else
+                desired =
+                        Math.copySign(
+                                Math.min(
+                                        accelerationLimits[i],
+                                        Math.sqrt(2 * jerk * Math.abs(error))),
+                                error);
+            var maxChange = jerk * dt;
+            var acceleration =
+                    accelerations[i]
+                            + Math.max(-maxChange, Math.min(maxChange, desired - accelerations[i]));
+            var velocity = velocities[i] + acceleration * dt;
+            if ((targets[i] - velocity) * error <= 0) {
+                // target reached or overshot
+                velocity = targets[i];
+                acceleration = 0;
+            }
+            velocities[i] = velocity;
+            accelerations[i] = acceleration;
+        }
+        return velocities;
+    }
+
+    /** Check if all velocities and accelerations are zero */
+    public boolean isStopped() {
+        for (int i = 0; i < velocities.length; i++) {
+            if (velocities[i] != 0 || accelerations[i] != 0) return false;
+        }
+        return true;
+    }
+
+    /** Current velocities, array is owned by the filter */
+    public double[] velocities() {
+        return velocities;
+    }
+}
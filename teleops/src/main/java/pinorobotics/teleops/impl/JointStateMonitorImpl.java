@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jros2messages.sensor_msgs.JointStateMessage;
+import id.jrosclient.JRosClient;
+import id.jrosclient.TopicSubscriber;
+import id.xfunction.PreconditionException;
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.lang.invoke.VarHandle;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import pinorobotics.teleops.JointStateMonitor;
+import pinorobotics.teleops.JointStateSnapshot;
+
+/**
+ * Joint state buffers are guarded by the sequence lock: there is only one writer (subscriber
+ * thread) and readers copy the buffers and retry if they were updated in the middle of the copy.
+ *
+ * <p>Joint state messages may contain only part of the joints (for example when they are published
+ * by several controllers) or list them in different order. Values of the joints which are missing
+ * in the message are left unchanged.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class JointStateMonitorImpl implements JointStateMonitor {
+    private static final XLogger LOGGER = XLogger.getLogger(JointStateMonitorImpl.class);
+
+    /** Odd while update is in progress, zero until the first update */
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final JointStateSnapshot state;
+    private final List<String> joints;
+    private final String[] jointsArray;
+    private final Map<String, Integer> jointIndex = new HashMap<>();
+    private TopicSubscriber<JointStateMessage> subscriber;
+
+    public JointStateMonitorImpl(List<String> joints) {
+        Preconditions.isTrue(!joints.isEmpty(), "List of joints is empty");
+        this.joints = List.copyOf(joints);
+        jointsArray = joints.toArray(new String[0]);
+        for (int i = 0; i < jointsArray.length; i++) jointIndex.put(jointsArray[i], i);
+        state = new JointStateSnapshot(jointsArray.length);
+    }
+
+    /** Subscribe to the given topic and start monitoring */
+    public JointStateMonitorImpl subscribe(JRosClient client, String jointStatesTopic) {
+        subscriber =
+                new TopicSubscriber<>(JointStateMessage.class, jointStatesTopic) {
+                    @Override
+                    public void onNext(JointStateMessage item) {
+                        try {
+                            update(item);
+                        } finally {
+                            // malformed message must not stop the subscription
+                            getSubscription().ifPresent(s -> s.request(1));
+                        }
+                    }
+                };
+        client.subscribe(subscriber);
+        return this;
+    }
+
+    @Override
+    public List<String> getJoints() {
+        return joints;
+    }
+
+    /**
+     * Must be called from one thread at a time.
+     *
+     * <p>Message is validated before the buffers are changed, so malformed message is rejected and
+     * readers keep the last good snapshot.
+     */
+    public void update(JointStateMessage message) {
+        validate(message);
+        var seq = sequence.get();
+        sequence.set(seq + 1);
+        // make sure buffers are not updated before readers can see that update is in progress
+        VarHandle.storeStoreFence();
+        var isUpdated = false;
+        try {
+            var names = message.name;
+            if (isSameOrder(names)) {
+                copy(message.position, state.positions());
+                copy(message.velocity, state.velocities());
+                copy(message.effort, state.efforts());
+            } else {
+                for (int i = 0; i < names.length; i++) {
+                    var index = jointIndex.get(names[i]);
+                    if (index == null) {
+                        if (LOGGER.isLoggable(Level.FINE))
+                            LOGGER.fine("Ignoring state of unknown joint {0}", names[i]);
+                        continue;
+                    }
+                    copy(message.position, i, names.length, state.positions(), index);
+                    copy(message.velocity, i, names.length, state.velocities(), index);
+                    copy(message.effort, i, names.length, state.efforts(), index);
+                }
+            }
+            var stamp = message.header.stamp;
+            state.setStampNanos(stamp.sec * 1_000_000_000L + stamp.nanosec);
+            state.setVersion(seq + 2);
+            isUpdated = true;
+        } finally {
+            // failed update must not leave readers spinning on the odd sequence
+            sequence.set(isUpdated ? seq + 2 : seq);
+        }
+    }
+
+    private static void validate(JointStateMessage message) {
+        // varargs Preconditions.notNull would allocate empty arguments array on each message
+        if (message.header == null
+                || message.header.stamp == null
+                || message.name == null
+                || message.position == null
+                || message.velocity == null
+                || message.effort == null)
+            throw new PreconditionException("Joint state message has missing fields");
+        for (var name : message.name) {
+            if (name == null) throw new PreconditionException("Joint state message has null name");
+        }
+    }
+
+    @Override
+    public boolean read(JointStateSnapshot snapshot) {
+        Preconditions.equals(
+                jointsArray.length, snapshot.size(), "Snapshot size does not match joints count");
+        while (true) {
+            var seq = sequence.get();
+            if (seq == 0) return false;
+            if ((seq & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            snapshot.copyFrom(state);
+            VarHandle.acquireFence();
+            if (sequence.get() == seq) return true;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (subscriber != null) subscriber.getSubscription().ifPresent(Subscription::cancel);
+    }
+
+    private boolean isSameOrder(String[] names) {
+        if (names.length != jointsArray.length) return false;
+        for (int i = 0; i < names.length; i++) {
+            // names are usually the same String instances only when messages are reused
+            if (names[i] != jointsArray[i] && !names[i].equals(jointsArray[i])) return false;
+        }
+        return true;
+    }
+
+    /** Fields which are not present in the message (empty arrays) are ignored */
+    private static void copy(double[] src, double[] dst) {
+        if (src.length == dst.length) System.arraycopy(src, 0, dst, 0, dst.length);
+    }
+
+    private static void copy(double[] src, int srcIndex, int numOfNames, double[] dst, int index) {
+        if (src.length == numOfNames) dst[index] = src[srcIndex];
+    }
+}
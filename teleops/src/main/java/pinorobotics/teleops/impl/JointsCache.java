@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.logging.XLogger;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stores joints of the robot on disk, one file per joint states topic with one joint name per line.
+ *
+ * <p>Any I/O errors are logged and treated as a cache miss.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class JointsCache {
+    private static final XLogger LOGGER = XLogger.getLogger(JointsCache.class);
+    private Path cacheDir;
+
+    public JointsCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    public Optional<List<String>> read(String jointStatesTopic) {
+        var file = fileOf(jointStatesTopic);
+        if (!Files.exists(file)) return Optional.empty();
+        try {
+            var joints = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (joints.isEmpty()) return Optional.empty();
+            LOGGER.fine("Read joints {0} from {1}", joints, file);
+            return Optional.of(List.copyOf(joints));
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read joints cache " + file + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void write(String jointStatesTopic, List<String> joints) {
+        var file = fileOf(jointStatesTopic);
+        try {
+            Files.createDirectories(cacheDir);
+            // write to temporary file first so that concurrent readers never see partial file
+            var tmpFile = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp");
+            Files.write(tmpFile, joints, StandardCharsets.UTF_8);
+            Files.move(
+                    tmpFile,
+                    file,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.fine("Stored joints {0} to {1}", joints, file);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write joints cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    private Path fileOf(String jointStatesTopic) {
+        return cacheDir.resolve(URLEncoder.encode(jointStatesTopic, StandardCharsets.UTF_8));
+    }
+}
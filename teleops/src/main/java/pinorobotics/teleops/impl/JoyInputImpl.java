@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jrosclient.JRosClient;
+import id.jrosclient.TopicSubscriber;
+import java.util.Arrays;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.IntStream;
+import pinorobotics.teleops.JoyInput;
+import pinorobotics.teleops.JoyMapping;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
+import pinorobotics.teleops.messages.JoyMessage;
+
+/**
+ * Translates joystick messages into commands using preallocated arrays, so no allocations happen
+ * per message.
+ *
+ * <p>When all axes return to the deadzone (or enable button is released) single stop command is
+ * sent and no commands are sent until the joystick is moved again.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class JoyInputImpl implements JoyInput {
+    private final TeleopsClient client;
+    private final JoyMapping mapping;
+    private final double[] twist = new double[6];
+
+    /** Joints which are mapped to the axes */
+    private final int[] jogIndices;
+
+    private final int[] jogAxes;
+    private final double[] jogScales;
+    private final double[] jogVelocities;
+
+    /** Type of the last command sent or null if robot was stopped */
+    private TeleopsCommandType movingType;
+
+    private long commandCount;
+    private TopicSubscriber<JoyMessage> subscriber;
+
+    public JoyInputImpl(TeleopsClient client, JoyMapping mapping) {
+        this.client = client;
+        this.mapping = mapping;
+        var mappedJoints =
+                IntStream.range(0, mapping.jogAxes().length)
+                        .filter(i -> mapping.jogAxes()[i] >= 0)
+                        .toArray();
+        jogIndices = mappedJoints;
+        jogAxes = Arrays.stream(mappedJoints).map(i -> mapping.jogAxes()[i]).toArray();
+        jogScales = Arrays.stream(mappedJoints).mapToDouble(i -> mapping.jogScales()[i]).toArray();
+        jogVelocities = new double[mappedJoints.length];
+    }
+
+    public JoyInputImpl subscribe(JRosClient rosClient, String joyTopic) {
+        subscriber =
+                new TopicSubscriber<>(JoyMessage.class, joyTopic) {
+                    @Override
+                    public void onNext(JoyMessage item) {
+                        process(item);
+                        getSubscription().ifPresent(s -> s.request(1));
+                    }
+                };
+        rosClient.subscribe(subscriber);
+        return this;
+    }
+
+    @Override
+    public synchronized void process(JoyMessage message) {
+        if (mapping.enableButton() >= 0 && !isPressed(message, mapping.enableButton())) {
+            stop();
+            return;
+        }
+        var isJogMode = mapping.jogModeButton() >= 0 && isPressed(message, mapping.jogModeButton());
+        if (!isJogMode) {
+            if (readTwist(message)) {
+                client.moveTwist(twist[0], twist[1], twist[2], twist[3], twist[4], twist[5]);
+                movingType = TeleopsCommandType.TWIST;
+                commandCount++;
+                return;
+            }
+            if (mapping.jogModeButton() >= 0) {
+                stop();
+                return;
+            }
+        }
+        if (readJog(message)) {
+            client.jog(jogIndices, jogVelocities);
+            movingType = TeleopsCommandType.JOG;
+            commandCount++;
+            return;
+        }
+        stop();
+    }
+
+    @Override
+    public synchronized long getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * @return true if any of the velocities is not zero
+     */
+    private boolean readTwist(JoyMessage message) {
+        var isMoving = false;
+        var axes = mapping.twistAxes();
+        var scales = mapping.twistScales();
+        for (int i = 0; i < twist.length; i++) {
+            twist[i] = readAxis(message, axes[i], scales[i]);
+            isMoving |= twist[i] != 0;
+        }
+        return isMoving;
+    }
+
+    /**
+     * @return true if any of the velocities is not zero
+     */
+    private boolean readJog(JoyMessage message) {
+        var isMoving = false;
+        for (int i = 0; i < jogVelocities.length; i++) {
+            jogVelocities[i] = readAxis(message, jogAxes[i], jogScales[i]);
+            isMoving |= jogVelocities[i] != 0;
+        }
+        return isMoving;
+    }
+
+    private double readAxis(JoyMessage message, int axis, double scale) {
+        if (axis < 0 || axis >= message.axes.length) return 0;
+        double value = message.axes[axis];
+        var magnitude = Math.abs(value);
+        var deadzone = mapping.deadzone();
+        if (!(magnitude > deadzone)) return 0;
+        return Math.copySign(Math.min(1, (magnitude - deadzone) / (1 - deadzone)), value) * scale;
+    }
+
+    private boolean isPressed(JoyMessage message, int button) {
+        return button < message.buttons.length && message.buttons[button] != 0;
+    }
+
+    private void stop() {
+        if (movingType == null) return;
+        switch (movingType) {
+            case TWIST -> client.moveTwist(0, 0, 0, 0, 0, 0);
+            case JOG -> {
+                Arrays.fill(jogVelocities, 0);
+                client.jog(jogIndices, jogVelocities);
+            }
+        }
+        movingType = null;
+        commandCount++;
+    }
+
+    @Override
+    public void close() {
+        if (subscriber != null) subscriber.getSubscription().ifPresent(Subscription::cancel);
+        synchronized (this) {
+            stop();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import pinorobotics.teleops.LatencyStats;
+
+/**
+ * Lock-free latency histogram.
+ *
+ * <p>Each power of two range of nanoseconds is split into 4 buckets, which keeps the error of the
+ * reported percentiles within 25% while the whole histogram fits into 252 counters. Recording is a
+ * couple of atomic increments and does not allocate.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class LatencyRecorder {
+    private static final int SUB_BUCKETS_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKETS_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKETS_BITS + 1) * SUB_BUCKETS;
+
+    private AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private LongAdder totalNanos = new LongAdder();
+    private AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets.incrementAndGet(bucketOf(nanos));
+        totalNanos.add(nanos);
+        if (nanos > maxNanos.get()) maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /** Snapshot is not atomic: calls recorded concurrently may be partially included */
+    public LatencyStats snapshot() {
+        var counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        if (count == 0) return LatencyStats.EMPTY;
+        return new LatencyStats(
+                count,
+                Duration.ofNanos(totalNanos.sum() / count),
+                Duration.ofNanos(percentile(counts, count, 0.5)),
+                Duration.ofNanos(percentile(counts, count, 0.99)),
+                Duration.ofNanos(maxNanos.get()));
+    }
+
+    private long percentile(long[] counts, long count, double p) {
+        var rank = (long) Math.ceil(count * p);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBoundOf(i), maxNanos.get());
+        }
+        return maxNanos.get();
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+        var exp = 63 - Long.numberOfLeadingZeros(nanos);
+        var sub = (int) (nanos >>> (exp - SUB_BUCKETS_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - SUB_BUCKETS_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        var exp = bucket / SUB_BUCKETS + SUB_BUCKETS_BITS - 1;
+        var sub = bucket % SUB_BUCKETS;
+        var width = 1L << (exp - SUB_BUCKETS_BITS);
+        var lower = (long) (SUB_BUCKETS + sub) << (exp - SUB_BUCKETS_BITS);
+        return lower + width - 1;
+    }
+}
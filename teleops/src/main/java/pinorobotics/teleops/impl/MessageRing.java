@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.Preconditions;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Fixed ring of preallocated objects which are handed out in round-robin order.
+ *
+ * <p>Object returned by {@link #next()} is handed out again only after {@link #size()} more calls,
+ * so the ring must be larger than the number of objects which consumer (ROS transport) may still
+ * hold at any given moment. Consumers which may hold arbitrary objects (not only the most recent
+ * ones) should use {@link #next(Predicate)} instead.
+ *
+ * <p>Not thread safe.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class MessageRing<T> {
+    private Object[] items;
+    private int next;
+
+    public MessageRing(int size, Supplier<T> factory) {
+        Preconditions.isTrue(size > 0, "Ring size must be positive");
+        items = new Object[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = factory.get();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T next() {
+        var item = (T) items[next];
+        next = (next + 1) % items.length;
+        return item;
+    }
+
+    /**
+     * Same as {@link #next()} but skips objects which are still held by the consumer
+     *
+     * @throws IllegalStateException if all objects of the ring are held
+     */
+    public T next(Predicate<? super T> isHeld) {
+        for (int i = 0; i < items.length; i++) {
+            var item = next();
+            if (!isHeld.test(item)) return item;
+        }
+        throw new IllegalStateException("All objects of the ring are held by the consumer");
+    }
+
+    public int size() {
+        return items.length;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import pinorobotics.jros2moveit.JRos2MoveItServoClient.CommandType;
+
+/**
+ * Records time spent in MoveIt Servo calls.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class MeteredServoControl implements MoveItServoControl {
+    private MoveItServoControl servoControl;
+    private TeleopsMetricsRecorder metrics;
+
+    public MeteredServoControl(MoveItServoControl servoControl, TeleopsMetricsRecorder metrics) {
+        this.servoControl = servoControl;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void startServo() {
+        var start = System.nanoTime();
+        try {
+            servoControl.startServo();
+        } finally {
+            metrics.startServoLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void switchCommandType(CommandType commandType) {
+        var start = System.nanoTime();
+        try {
+            servoControl.switchCommandType(commandType);
+        } finally {
+            metrics.switchCommandTypeLatency.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void close() {
+        servoControl.close();
+    }
+}
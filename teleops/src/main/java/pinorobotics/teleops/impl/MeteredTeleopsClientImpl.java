@@ -0,0 +1,155 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.logging.XLogger;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import pinorobotics.teleops.MeteredTeleopsClient;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsMetrics;
+
+/**
+ * Records metrics of all commands passing through it.
+ *
+ * <p>Movement path only reads {@link System#nanoTime()} twice and updates few lock-free counters.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class MeteredTeleopsClientImpl implements MeteredTeleopsClient {
+    private static final XLogger LOGGER = XLogger.getLogger(MeteredTeleopsClientImpl.class);
+
+    private TeleopsClient client;
+    private TeleopsMetricsRecorder metrics;
+    private Optional<ScheduledExecutorService> logger;
+    private TeleopsMetrics previous;
+
+    /**
+     * @param client client to which all commands are delegated
+     * @param metrics recorder shared with the {@link MeteredServoControl} (if any)
+     * @param logPeriod if present, metrics are logged periodically
+     */
+    public MeteredTeleopsClientImpl(
+            TeleopsClient client, TeleopsMetricsRecorder metrics, Optional<Duration> logPeriod) {
+        this.client = client;
+        this.metrics = metrics;
+        previous = metrics.snapshot();
+        logger =
+                logPeriod.map(
+                        period -> {
+                            var executor =
+                                    Executors.newSingleThreadScheduledExecutor(
+                                            Thread.ofPlatform()
+                                                    .name("teleops-metrics")
+                                                    .daemon()
+                                                    .factory());
+                            var periodNanos = period.toNanos();
+                            executor.scheduleAtFixedRate(
+                                    this::log, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+                            return executor;
+                        });
+    }
+
+    @Override
+    public void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        var start = System.nanoTime();
+        try {
+            client.moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        } catch (RuntimeException e) {
+            metrics.errorCount.increment();
+            throw e;
+        } finally {
+            metrics.publishLatency.record(System.nanoTime() - start);
+            metrics.twistCount.increment();
+        }
+    }
+
+    @Override
+    public void move(double... velocities) {
+        var start = System.nanoTime();
+        try {
+            client.move(velocities);
+        } catch (RuntimeException e) {
+            metrics.errorCount.increment();
+            throw e;
+        } finally {
+            metrics.publishLatency.record(System.nanoTime() - start);
+            metrics.jogCount.increment();
+        }
+    }
+
+    @Override
+    public void jog(int jointIndex, double velocity) {
+        var start = System.nanoTime();
+        try {
+            client.jog(jointIndex, velocity);
+        } catch (RuntimeException e) {
+            metrics.errorCount.increment();
+            throw e;
+        } finally {
+            metrics.publishLatency.record(System.nanoTime() - start);
+            metrics.jogCount.increment();
+        }
+    }
+
+    @Override
+    public void jog(int[] jointIndices, double[] velocities) {
+        var start = System.nanoTime();
+        try {
+            client.jog(jointIndices, velocities);
+        } catch (RuntimeException e) {
+            metrics.errorCount.increment();
+            throw e;
+        } finally {
+            metrics.publishLatency.record(System.nanoTime() - start);
+            metrics.jogCount.increment();
+        }
+    }
+
+    @Override
+    public TeleopsMetrics getMetrics() {
+        return metrics.snapshot();
+    }
+
+    /** Logs rates since the previous log line and the latency since the client was created */
+    private void log() {
+        var current = metrics.snapshot();
+        var seconds = (current.uptime().toNanos() - previous.uptime().toNanos()) / 1e9;
+        LOGGER.info(
+                String.format(
+                        "twist=%.1f/s jog=%.1f/s errors=%d publish=[%s] startServo=[%s]"
+                                + " switchCommandType=[%s]",
+                        (current.twistCount() - previous.twistCount()) / seconds,
+                        (current.jogCount() - previous.jogCount()) / seconds,
+                        current.errorCount(),
+                        current.publishLatency(),
+                        current.startServoLatency(),
+                        current.switchCommandTypeLatency()));
+        previous = current;
+    }
+
+    @Override
+    public void close() throws Exception {
+        logger.ifPresent(ScheduledExecutorService::shutdownNow);
+        client.close();
+    }
+}
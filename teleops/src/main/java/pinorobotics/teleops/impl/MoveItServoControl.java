@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import pinorobotics.jros2moveit.JRos2MoveItServoClient;
+import pinorobotics.jros2moveit.JRos2MoveItServoClient.CommandType;
+
+/**
+ * MoveIt Servo operations which are used by servo {@link pinorobotics.teleops.TeleopsClient}.
+ *
+ * <p>Allows servo clients to run against something other than real MoveIt Servo service (for
+ * example in benchmarks).
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public interface MoveItServoControl extends AutoCloseable {
+
+    /** See {@link JRos2MoveItServoClient#startServo()} */
+    void startServo();
+
+    /** See {@link JRos2MoveItServoClient#switchCommandType(CommandType)} */
+    void switchCommandType(CommandType commandType);
+
+    @Override
+    void close();
+
+    static MoveItServoControl of(JRos2MoveItServoClient servoClient) {
+        return new MoveItServoControl() {
+            @Override
+            public void startServo() {
+                servoClient.startServo();
+            }
+
+            @Override
+            public void switchCommandType(CommandType commandType) {
+                servoClient.switchCommandType(commandType);
+            }
+
+            @Override
+            public void close() {
+                servoClient.close();
+            }
+        };
+    }
+}
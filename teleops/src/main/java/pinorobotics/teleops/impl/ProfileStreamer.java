@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import pinorobotics.teleops.ProfileReport;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
+
+/**
+ * Streams timestamped velocity samples to {@link TeleopsClient} on schedule.
+ *
+ * <p>Samples are read directly from the buffer into the reusable array so no allocations happen per
+ * sample.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class ProfileStreamer {
+    private static final XLogger LOGGER = XLogger.getLogger(ProfileStreamer.class);
+    private TeleopsClient client;
+    private TeleopsCommandType type;
+    private DoubleBuffer samples;
+    private int stride;
+    private double[] velocities;
+
+    /**
+     * @param samples samples, each of them starts with the time (seconds) relative to the start of
+     *     the profile followed by the velocities
+     * @param numOfVelocities number of velocities in each sample
+     */
+    public ProfileStreamer(
+            TeleopsClient client,
+            TeleopsCommandType type,
+            DoubleBuffer samples,
+            int numOfVelocities) {
+        this.client = client;
+        this.type = type;
+        this.samples = samples.duplicate();
+        stride = numOfVelocities + 1;
+        velocities = new double[numOfVelocities];
+        Preconditions.isTrue(
+                this.samples.remaining() % stride == 0,
+                "Number of values in samples buffer is not multiple of %d",
+                stride);
+        var prevTime = 0.;
+        for (int i = this.samples.position(); i < this.samples.limit(); i += stride) {
+            var time = this.samples.get(i);
+            Preconditions.isTrue(
+                    time >= prevTime, "Sample times must be non negative and non decreasing");
+            prevTime = time;
+        }
+    }
+
+    /**
+     * Start streaming in a separate thread.
+     *
+     * <p>Streaming stops when all samples are published or when returned future is cancelled.
+     * Cancellation wakes up the streaming thread so it does not wait for the next sample.
+     */
+    public CompletableFuture<ProfileReport> start() {
+        var future = new CompletableFuture<ProfileReport>();
+        var thread =
+                Thread.ofPlatform()
+                        .name("teleops-profile")
+                        .daemon()
+                        .unstarted(
+                                () -> {
+                                    try {
+                                        future.complete(run(future));
+                                    } catch (Exception e) {
+                                        LOGGER.severe("Failed to stream the profile", e);
+                                        future.completeExceptionally(e);
+                                    }
+                                });
+        future.whenComplete((report, e) -> LockSupport.unpark(thread));
+        thread.start();
+        return future;
+    }
+
+    private ProfileReport run(CompletableFuture<ProfileReport> future) {
+        var numOfSamples = samples.remaining() / stride;
+        var deviations = new long[numOfSamples];
+        var startNanos = System.nanoTime();
+        var pos = samples.position();
+        var count = 0;
+        for (; count < numOfSamples; count++, pos += stride) {
+            var deadline = startNanos + Math.round(samples.get(pos) * 1_000_000_000);
+            samples.get(pos + 1, velocities);
+            if (!SpinWait.untilNanoTime(deadline, future)) break;
+            switch (type) {
+                case TWIST ->
+                        client.moveTwist(
+                                velocities[0],
+                                velocities[1],
+                                velocities[2],
+                                velocities[3],
+                                velocities[4],
+                                velocities[5]);
+                case JOG -> client.move(velocities);
+            }
+            // deviation includes the time it took to publish the sample
+            deviations[count] = System.nanoTime() - deadline;
+        }
+        return new ProfileReport(
+                count == numOfSamples ? deviations : Arrays.copyOf(deviations, count));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.logging.XLogger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * Forwards all commands to the given client and appends them to the command log file (see {@link
+ * CommandLogWriter}).
+ *
+ * <p>Failure to write the log does not interrupt teleoperation: it is logged and recording stops.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class RecordingTeleopsClient implements TeleopsClient {
+    private static final XLogger LOGGER = XLogger.getLogger(RecordingTeleopsClient.class);
+
+    private TeleopsClient client;
+    private CommandLogWriter writer;
+    private boolean isRecording = true;
+
+    public RecordingTeleopsClient(TeleopsClient client, Path file) {
+        this.client = client;
+        try {
+            writer = new CommandLogWriter(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create command log file " + file, e);
+        }
+        LOGGER.info("Recording commands to {0}", file);
+    }
+
+    @Override
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        client.moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        if (!isRecording) return;
+        try {
+            writer.writeTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        } catch (UncheckedIOException e) {
+            stopRecording(e);
+        }
+    }
+
+    @Override
+    public synchronized void move(double... jointVelocities) {
+        client.move(jointVelocities);
+        if (!isRecording) return;
+        try {
+            writer.writeJog(jointVelocities);
+        } catch (UncheckedIOException e) {
+            stopRecording(e);
+        }
+    }
+
+    @Override
+    public synchronized void jog(int jointIndex, double velocity) {
+        client.jog(jointIndex, velocity);
+        if (!isRecording) return;
+        try {
+            writer.writeJog(jointIndex, velocity);
+        } catch (UncheckedIOException e) {
+            stopRecording(e);
+        }
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        client.jog(jointIndices, velocities);
+        if (!isRecording) return;
+        try {
+            writer.writeJog(jointIndices, velocities);
+        } catch (UncheckedIOException e) {
+            stopRecording(e);
+        }
+    }
+
+    private void stopRecording(Exception e) {
+        LOGGER.severe("Failed to write command log, recording stopped", e);
+        isRecording = false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        synchronized (this) {
+            try {
+                writer.close();
+            } catch (IOException | UncheckedIOException e) {
+                LOGGER.severe("Failed to close command log", e);
+            }
+            isRecording = false;
+        }
+        client.close();
+    }
+}
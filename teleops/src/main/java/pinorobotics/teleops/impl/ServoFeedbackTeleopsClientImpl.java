@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jros2client.JRos2Client;
+import id.jrosclient.TopicSubscriber;
+import id.jroscommon.RosRelease;
+import id.xfunction.logging.XLogger;
+import java.util.concurrent.Flow.Subscription;
+import pinorobotics.teleops.ServoFeedbackSettings;
+import pinorobotics.teleops.ServoFeedbackTeleopsClient;
+import pinorobotics.teleops.ServoStatus;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
+import pinorobotics.teleops.messages.Int8Message;
+import pinorobotics.teleops.messages.ServoStatusMessage;
+
+/**
+ * While MoveIt Servo reports no warnings commands are forwarded as is. Otherwise each command is
+ * copied to the preallocated {@link TeleopsCommand}, where its velocities are scaled, so no
+ * allocations happen per command.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class ServoFeedbackTeleopsClientImpl implements ServoFeedbackTeleopsClient {
+    private static final XLogger LOGGER = XLogger.getLogger(ServoFeedbackTeleopsClientImpl.class);
+
+    private final TeleopsClient client;
+    private final double decelerationScale;
+    private final long haltedPublishPeriodNanos;
+    private final TeleopsCommand command = new TeleopsCommand();
+    private volatile ServoStatus status = ServoStatus.NO_WARNING;
+
+    /** Time when the last command was published while MoveIt Servo was halted */
+    private long haltedPublishedNanos;
+
+    private volatile long throttledCount;
+    private TopicSubscriber<?> subscriber;
+
+    public ServoFeedbackTeleopsClientImpl(TeleopsClient client, ServoFeedbackSettings settings) {
+        this.client = client;
+        decelerationScale = settings.decelerationScale();
+        haltedPublishPeriodNanos = settings.haltedPublishPeriod().toNanos();
+        haltedPublishedNanos = System.nanoTime() - haltedPublishPeriodNanos;
+    }
+
+    /** Subscribe to the status topic of MoveIt Servo of the given ROS release */
+    public ServoFeedbackTeleopsClientImpl subscribe(
+            JRos2Client rosClient, RosRelease rosRelease, String statusTopicName) {
+        subscriber =
+                switch (rosRelease) {
+                    // Humble publishes only the status code
+                    case ROS2_HUMBLE ->
+                            new TopicSubscriber<>(Int8Message.class, statusTopicName) {
+                                @Override
+                                public void onNext(Int8Message item) {
+                                    onStatus(ServoStatus.fromCode(rosRelease, item.data));
+                                    getSubscription().ifPresent(s -> s.request(1));
+                                }
+                            };
+                    default ->
+                            new TopicSubscriber<>(ServoStatusMessage.class, statusTopicName) {
+                                @Override
+                                public void onNext(ServoStatusMessage item) {
+                                    onStatus(ServoStatus.fromCode(rosRelease, item.code));
+                                    getSubscription().ifPresent(s -> s.request(1));
+                                }
+                            };
+                };
+        rosClient.subscribe(subscriber);
+        return this;
+    }
+
+    @Override
+    public void onStatus(ServoStatus status) {
+        if (this.status == status) return;
+        this.status = status;
+        if (status.isHalted()) LOGGER.warning("MoveIt Servo status changed to {0}", status);
+        else LOGGER.info("MoveIt Servo status changed to {0}", status);
+    }
+
+    @Override
+    public ServoStatus getServoStatus() {
+        return status;
+    }
+
+    @Override
+    public long getThrottledCount() {
+        return throttledCount;
+    }
+
+    @Override
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        var status = this.status;
+        if (!isAdapted(status)) {
+            client.moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+            return;
+        }
+        command.setTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        publish(status);
+    }
+
+    @Override
+    public synchronized void move(double... velocities) {
+        var status = this.status;
+        if (!isAdapted(status)) {
+            client.move(velocities);
+            return;
+        }
+        command.setJog(velocities);
+        publish(status);
+    }
+
+    @Override
+    public synchronized void jog(int jointIndex, double velocity) {
+        var status = this.status;
+        if (!isAdapted(status)) {
+            client.jog(jointIndex, velocity);
+            return;
+        }
+        command.setJog(jointIndex, velocity);
+        publish(status);
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        var status = this.status;
+        if (!isAdapted(status)) {
+            client.jog(jointIndices, velocities);
+            return;
+        }
+        command.setJog(jointIndices, velocities);
+        publish(status);
+    }
+
+    private static boolean isAdapted(ServoStatus status) {
+        return status.isHalted() || status.isDecelerating();
+    }
+
+    private void publish(ServoStatus status) {
+        if (status.isHalted() && !isStop()) {
+            var now = System.nanoTime();
+            if (now - haltedPublishedNanos < haltedPublishPeriodNanos) {
+                throttledCount++;
+                return;
+            }
+            haltedPublishedNanos = now;
+        }
+        if (status.isDecelerating()) scale(decelerationScale);
+        command.sendTo(client);
+    }
+
+    private boolean isStop() {
+        var velocities = command.type == TeleopsCommandType.TWIST ? command.twist : command.jog;
+        for (var velocity : velocities) {
+            if (velocity != 0) return false;
+        }
+        return true;
+    }
+
+    private void scale(double scale) {
+        if (command.type == TeleopsCommandType.TWIST) {
+            for (int i = 0; i < command.twist.length; i++) command.twist[i] *= scale;
+        } else {
+            for (int i = 0; i < command.jog.length; i++) command.jog[i] *= scale;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (subscriber != null) subscriber.getSubscription().ifPresent(Subscription::cancel);
+        client.close();
+    }
+}
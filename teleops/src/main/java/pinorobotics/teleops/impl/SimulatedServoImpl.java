@@ -0,0 +1,288 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jros2client.JRos2Client;
+import id.jros2messages.control_msgs.JointJogMessage;
+import id.jros2messages.geometry_msgs.TwistStampedMessage;
+import id.jros2messages.sensor_msgs.JointStateMessage;
+import id.jros2messages.std_msgs.HeaderMessage;
+import id.jrosclient.TopicSubmissionPublisher;
+import id.jrosclient.TopicSubscriber;
+import id.jroscommon.RosRelease;
+import id.jrosmessages.primitives.Time;
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import pinorobotics.jros2moveit.JRos2MoveItServoClient.CommandType;
+import pinorobotics.teleops.SimulatedServo;
+import pinorobotics.teleops.SimulatedServoStats;
+import pinorobotics.teleops.TeleopsClientFactory;
+import pinorobotics.teleops.TeleopsUtils;
+
+/**
+ * Simulated MoveIt Servo which runs on top of {@link InProcessRosClient}.
+ *
+ * <p>Velocities are integrated and joint states are published by the separate thread with the fixed
+ * rate. Servo behaves as MoveIt Servo of the given ROS release: in Humble it ignores commands until
+ * it is started, in Jazzy it ignores commands which do not match the current command type
+ * (initially {@link CommandType#JOINT_JOG}).
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class SimulatedServoImpl implements SimulatedServo {
+    private static final XLogger LOGGER = XLogger.getLogger(SimulatedServoImpl.class);
+    private static final double PUBLISH_RATE = 100;
+
+    private final InProcessRosClient bus = new InProcessRosClient();
+    private final RosRelease rosRelease;
+    private final String[] joints;
+    private final Map<String, Integer> jointIndex = new HashMap<>();
+    private final Duration serviceLatency;
+    private final TopicSubmissionPublisher<JointStateMessage> jointStatePublisher;
+    private final Thread integrator;
+    private volatile boolean isClosed;
+
+    private final double[] twistVelocities = new double[6];
+    private final double[] pose = new double[6];
+    private final double[] jointVelocities;
+    private final double[] jointPositions;
+    private boolean isStarted;
+    private CommandType commandType;
+    private long lastCommandNanos;
+
+    private final LongAdder twistCount = new LongAdder();
+    private final LongAdder jogCount = new LongAdder();
+    private final LongAdder ignoredCount = new LongAdder();
+    private final LongAdder serviceCallCount = new LongAdder();
+    private final LatencyRecorder commandLatency = new LatencyRecorder();
+
+    /**
+     * @param serviceLatency how long each MoveIt Servo service call takes
+     */
+    public SimulatedServoImpl(RosRelease rosRelease, List<String> joints, Duration serviceLatency) {
+        Preconditions.isTrue(!serviceLatency.isNegative(), "Service latency is negative");
+        this.rosRelease = rosRelease;
+        this.joints = joints.toArray(new String[0]);
+        for (int i = 0; i < this.joints.length; i++) jointIndex.put(this.joints[i], i);
+        this.serviceLatency = serviceLatency;
+        jointVelocities = new double[this.joints.length];
+        jointPositions = new double[this.joints.length];
+        if (rosRelease == RosRelease.ROS2_HUMBLE) isStarted = false;
+        else {
+            isStarted = true;
+            commandType = CommandType.JOINT_JOG;
+        }
+        var client = bus.getClient();
+        client.subscribe(
+                new TopicSubscriber<>(
+                        TwistStampedMessage.class, TeleopsClientFactory.DEFAULT_TWIST_TOPIC_NAME) {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        super.onSubscribe(subscription);
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(TwistStampedMessage item) {
+                        onTwist(item);
+                    }
+                });
+        client.subscribe(
+                new TopicSubscriber<>(
+                        JointJogMessage.class, TeleopsClientFactory.DEFAULT_JOG_TOPIC_NAME) {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        super.onSubscribe(subscription);
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(JointJogMessage item) {
+                        onJog(item);
+                    }
+                });
+        jointStatePublisher =
+                new TopicSubmissionPublisher<>(
+                        JointStateMessage.class, TeleopsUtils.DEFAULT_JOINT_STATES_TOPIC_NAME);
+        client.publish(jointStatePublisher);
+        integrator = Thread.ofPlatform().name("teleops-sim-servo").daemon().start(this::integrate);
+    }
+
+    @Override
+    public JRos2Client getRosClient() {
+        return bus.getClient();
+    }
+
+    public RosRelease getRosRelease() {
+        return rosRelease;
+    }
+
+    /**
+     * MoveIt Servo service calls of this servo.
+     *
+     * <p>Closing the control does not close the servo, so servo clients can be closed independently
+     * from it.
+     */
+    public MoveItServoControl getControl() {
+        return new MoveItServoControl() {
+            @Override
+            public void startServo() {
+                serviceCall();
+                synchronized (SimulatedServoImpl.this) {
+                    isStarted = true;
+                }
+                LOGGER.fine("Servo started");
+            }
+
+            @Override
+            public void switchCommandType(CommandType type) {
+                serviceCall();
+                synchronized (SimulatedServoImpl.this) {
+                    commandType = type;
+                }
+                LOGGER.fine("Servo switched to {0}", type);
+            }
+
+            @Override
+            public void close() {}
+        };
+    }
+
+    private void serviceCall() {
+        serviceCallCount.increment();
+        if (!serviceLatency.isZero()) LockSupport.parkNanos(serviceLatency.toNanos());
+    }
+
+    private void onTwist(TwistStampedMessage message) {
+        commandLatency.record(
+                StampClock.epochNanos() - StampClock.toEpochNanos(message.header.stamp));
+        synchronized (this) {
+            if (!accepts(CommandType.TWIST)) {
+                ignoredCount.increment();
+                return;
+            }
+            var twist = message.twist;
+            twistVelocities[0] = twist.linear.x;
+            twistVelocities[1] = twist.linear.y;
+            twistVelocities[2] = twist.linear.z;
+            twistVelocities[3] = twist.angular.x;
+            twistVelocities[4] = twist.angular.y;
+            twistVelocities[5] = twist.angular.z;
+            Arrays.fill(jointVelocities, 0);
+            lastCommandNanos = System.nanoTime();
+        }
+        twistCount.increment();
+    }
+
+    private void onJog(JointJogMessage message) {
+        commandLatency.record(
+                StampClock.epochNanos() - StampClock.toEpochNanos(message.header.stamp));
+        synchronized (this) {
+            if (!accepts(CommandType.JOINT_JOG)) {
+                ignoredCount.increment();
+                return;
+            }
+            // joints which are not present in the message stop, same as in MoveIt Servo
+            Arrays.fill(jointVelocities, 0);
+            for (int i = 0; i < message.joint_names.length; i++) {
+                var index = jointIndex.get(message.joint_names[i].data);
+                if (index == null || i >= message.velocities.length) continue;
+                jointVelocities[index] = message.velocities[i];
+            }
+            Arrays.fill(twistVelocities, 0);
+            lastCommandNanos = System.nanoTime();
+        }
+        jogCount.increment();
+    }
+
+    private boolean accepts(CommandType type) {
+        return isStarted && (commandType == null || commandType == type);
+    }
+
+    private void integrate() {
+        var periodNanos = Math.round(1_000_000_000 / PUBLISH_RATE);
+        var previousNanos = System.nanoTime();
+        var deadline = previousNanos;
+        while (!isClosed) {
+            deadline += periodNanos;
+            SpinWait.untilNanoTime(deadline);
+            var now = System.nanoTime();
+            var dt = (now - previousNanos) / 1e9;
+            previousNanos = now;
+            JointStateMessage message;
+            synchronized (this) {
+                if (now - lastCommandNanos > COMMAND_TIMEOUT_MILLIS * 1_000_000) {
+                    Arrays.fill(twistVelocities, 0);
+                    Arrays.fill(jointVelocities, 0);
+                }
+                for (int i = 0; i < pose.length; i++) pose[i] += twistVelocities[i] * dt;
+                for (int i = 0; i < jointPositions.length; i++)
+                    jointPositions[i] += jointVelocities[i] * dt;
+                message =
+                        new JointStateMessage()
+                                .withName(joints)
+                                .withPosition(jointPositions.clone())
+                                .withVelocity(jointVelocities.clone());
+            }
+            var stamp = new Time();
+            StampClock.stamp(stamp);
+            message.withHeader(new HeaderMessage().withStamp(stamp));
+            jointStatePublisher.submit(message);
+        }
+    }
+
+    @Override
+    public synchronized double[] getPose() {
+        return pose.clone();
+    }
+
+    @Override
+    public synchronized double[] getJointPositions() {
+        return jointPositions.clone();
+    }
+
+    @Override
+    public SimulatedServoStats getStats() {
+        return new SimulatedServoStats(
+                twistCount.sum(),
+                jogCount.sum(),
+                ignoredCount.sum(),
+                serviceCallCount.sum(),
+                commandLatency.snapshot());
+    }
+
+    @Override
+    public void close() {
+        isClosed = true;
+        try {
+            integrator.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        jointStatePublisher.close();
+        bus.getClient().close();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.PreconditionException;
+import id.xfunction.Preconditions;
+import java.util.Arrays;
+import pinorobotics.teleops.SmoothingLimits;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
+
+/**
+ * Treats each command as the target velocities and forwards the velocities which move towards them
+ * within {@link SmoothingLimits}.
+ *
+ * <p>Filter advances by the time passed since the previous command (but not more than {@link
+ * #MAX_STEP_SECONDS}, so that the robot does not jump after being idle). To reach the targets the
+ * client has to be called periodically, which is what {@link FixedRateTeleopsClient} does.
+ *
+ * <p>Joints which are not present in the sparse jog command have zero target velocity, same as
+ * MoveIt Servo treats them. Output jog commands include the commanded joints and all the joints
+ * which are still moving.
+ *
+ * <p>MoveIt Servo handles only one command type at a time, so when commands switch between twist
+ * and jog, the previous motion is first decelerated to zero within the limits. Until then commands
+ * of the new type only advance the deceleration.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class SmoothingTeleopsClient implements TeleopsClient {
+    private static final double MAX_STEP_SECONDS = 0.1;
+
+    private TeleopsClient client;
+    private int numOfJoints;
+    private JerkLimitedFilter twistFilter;
+    private JerkLimitedFilter jointFilter;
+    private double[] twistTargets = new double[6];
+    private double[] zeroTwist = new double[6];
+    private double[] jointTargets;
+    private double[] zeroJoints;
+    private boolean[] isCommanded;
+
+    /** Arrays for sparse jog commands for each possible number of joints */
+    private int[][] jogIndices;
+
+    private double[][] jogVelocities;
+
+    /** Type of the motion which is currently published */
+    private TeleopsCommandType activeType;
+
+    private long previousNanos;
+
+    public SmoothingTeleopsClient(TeleopsClient client, SmoothingLimits limits) {
+        this.client = client;
+        numOfJoints = limits.jointAccelerations().length;
+        twistFilter = new JerkLimitedFilter(limits.twistAccelerations(), limits.twistJerks());
+        jointFilter = new JerkLimitedFilter(limits.jointAccelerations(), limits.jointJerks());
+        jointTargets = new double[numOfJoints];
+        zeroJoints = new double[numOfJoints];
+        isCommanded = new boolean[numOfJoints];
+        jogIndices = new int[numOfJoints + 1][];
+        jogVelocities = new double[numOfJoints + 1][];
+        for (int i = 0; i <= numOfJoints; i++) {
+            jogIndices[i] = new int[i];
+            jogVelocities[i] = new double[i];
+        }
+    }
+
+    @Override
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        var dt = advance();
+        if (rampDown(TeleopsCommandType.TWIST, dt)) return;
+        twistTargets[0] = velX;
+        twistTargets[1] = velY;
+        twistTargets[2] = velZ;
+        twistTargets[3] = angVelX;
+        twistTargets[4] = angVelY;
+        twistTargets[5] = angVelZ;
+        var v = twistFilter.step(twistTargets, dt);
+        client.moveTwist(v[0], v[1], v[2], v[3], v[4], v[5]);
+    }
+
+    @Override
+    public synchronized void move(double... velocities) {
+        Preconditions.equals(
+                numOfJoints,
+                velocities.length,
+                "mismatch between number of velocities and joint limits");
+        var dt = advance();
+        if (rampDown(TeleopsCommandType.JOG, dt)) return;
+        System.arraycopy(velocities, 0, jointTargets, 0, numOfJoints);
+        client.move(jointFilter.step(jointTargets, dt));
+    }
+
+    @Override
+    public synchronized void jog(int jointIndex, double velocity) {
+        checkJointIndex(jointIndex);
+        var dt = advance();
+        if (rampDown(TeleopsCommandType.JOG, dt)) return;
+        Arrays.fill(jointTargets, 0);
+        Arrays.fill(isCommanded, false);
+        jointTargets[jointIndex] = velocity;
+        isCommanded[jointIndex] = true;
+        jogSparse(dt);
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        // validated before the filter state is changed
+        Preconditions.equals(
+                jointIndices.length,
+                velocities.length,
+                "mismatch between number of joint indices and velocities");
+        for (int i = 0; i < jointIndices.length; i++) {
+            checkJointIndex(jointIndices[i]);
+        }
+        var dt = advance();
+        if (rampDown(TeleopsCommandType.JOG, dt)) return;
+        Arrays.fill(jointTargets, 0);
+        Arrays.fill(isCommanded, false);
+        for (int i = 0; i < jointIndices.length; i++) {
+            jointTargets[jointIndices[i]] = velocities[i];
+            isCommanded[jointIndices[i]] = true;
+        }
+        jogSparse(dt);
+    }
+
+    private void jogSparse(double dt) {
+        var velocities = jointFilter.step(jointTargets, dt);
+        var count = 0;
+        for (int i = 0; i < numOfJoints; i++) {
+            if (isCommanded[i] || velocities[i] != 0) count++;
+        }
+        var indices = jogIndices[count];
+        var outVelocities = jogVelocities[count];
+        for (int i = 0, j = 0; i < numOfJoints; i++) {
+            if (!isCommanded[i] && velocities[i] == 0) continue;
+            indices[j] = i;
+            outVelocities[j] = velocities[i];
+            j++;
+        }
+        client.jog(indices, outVelocities);
+    }
+
+    private void checkJointIndex(int jointIndex) {
+        // varargs Preconditions.isTrue would allocate empty arguments array on each command
+        if (jointIndex < 0 || jointIndex >= numOfJoints)
+            throw new PreconditionException("joint index is out of range of the joint limits");
+    }
+
+    /**
+     * @return time passed since the previous command (seconds)
+     */
+    private double advance() {
+        var now = System.nanoTime();
+        var dt = activeType == null ? 0 : Math.min(MAX_STEP_SECONDS, (now - previousNanos) / 1e9);
+        previousNanos = now;
+        return dt;
+    }
+
+    /**
+     * Decelerates the active motion if it is of a different type than the given one.
+     *
+     * @return true if deceleration command was published instead of the command of the given type
+     */
+    private boolean rampDown(TeleopsCommandType type, double dt) {
+        if (activeType == type) return false;
+        if (activeType != null) {
+            switch (activeType) {
+                case TWIST -> {
+                    if (!twistFilter.isStopped()) {
+                        var v = twistFilter.step(zeroTwist, dt);
+                        client.moveTwist(v[0], v[1], v[2], v[3], v[4], v[5]);
+                        return true;
+                    }
+                }
+                case JOG -> {
+                    if (!jointFilter.isStopped()) {
+                        // dense command so that the final zero velocities are published too
+                        client.move(jointFilter.step(zeroJoints, dt));
+                        return true;
+                    }
+                }
+            }
+        }
+        activeType = type;
+        return false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        client.close();
+    }
+}
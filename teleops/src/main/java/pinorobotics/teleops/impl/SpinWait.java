@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Low jitter waiting for the deadlines.
+ *
+ * <p>Thread parks until shortly before the deadline and then spins until the deadline itself, which
+ * is much more precise than parking alone without burning the whole CPU core.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class SpinWait {
+
+    /** How long before the deadline thread stops parking and starts spinning */
+    private static final long SPIN_NANOS = 50_000;
+
+    /**
+     * @param deadline deadline in terms of {@link System#nanoTime()}
+     */
+    public static void untilNanoTime(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > SPIN_NANOS) {
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+        }
+        while (deadline - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Same as {@link #untilNanoTime(long)} but returns earlier when the given future is done.
+     *
+     * <p>To stop waiting immediately, thread which completes the future needs to {@link
+     * LockSupport#unpark(Thread)} the waiting thread.
+     *
+     * @return false if waiting was interrupted by the completion of the future
+     */
+    public static boolean untilNanoTime(long deadline, Future<?> future) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > SPIN_NANOS) {
+            if (future.isDone()) return false;
+            LockSupport.parkNanos(remaining - SPIN_NANOS);
+        }
+        while (deadline - System.nanoTime() > 0) {
+            Thread.onSpinWait();
+        }
+        return !future.isDone();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.jrosmessages.primitives.Time;
+import java.time.Instant;
+
+/**
+ * Allocation free alternative to {@link Time#now()}.
+ *
+ * <p>Wall clock is sampled once with nanosecond precision and then advanced using {@link
+ * System#nanoTime()}. Since the two clocks drift apart (NTP adjustments, clock changes), the offset
+ * between them is checked against {@link System#currentTimeMillis()} once per second and it is
+ * resynced when the drift exceeds {@link #MAX_DRIFT_NANOS}. Stamps can jump back by at most that
+ * value when resync happens.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class StampClock {
+    private static final long NANOS_IN_SEC = 1_000_000_000L;
+    private static final long NANOS_IN_MILLI = 1_000_000L;
+    private static final long RESYNC_PERIOD_NANOS = NANOS_IN_SEC;
+
+    /**
+     * Wall clock is checked with millisecond resolution, so smaller drift can not be detected
+     * reliably
+     */
+    public static final long MAX_DRIFT_NANOS = 2 * NANOS_IN_MILLI;
+
+    /** Difference between epoch nanoseconds and {@link System#nanoTime()} */
+    private static volatile long offsetNanos;
+
+    private static volatile long syncNanoTime;
+
+    static {
+        var now = Instant.now();
+        syncNanoTime = System.nanoTime();
+        offsetNanos = now.getEpochSecond() * NANOS_IN_SEC + now.getNano() - syncNanoTime;
+    }
+
+    /** Current time in nanoseconds since epoch */
+    public static long epochNanos() {
+        var nanoTime = System.nanoTime();
+        if (nanoTime - syncNanoTime > RESYNC_PERIOD_NANOS) resync(nanoTime);
+        return nanoTime + offsetNanos;
+    }
+
+    /** Concurrent calls may resync at the same time, which is harmless */
+    private static void resync(long nanoTime) {
+        syncNanoTime = nanoTime;
+        var wallOffsetNanos = System.currentTimeMillis() * NANOS_IN_MILLI - nanoTime;
+        if (Math.abs(wallOffsetNanos - offsetNanos) > MAX_DRIFT_NANOS)
+            offsetNanos = wallOffsetNanos;
+    }
+
+    /** Nanoseconds since epoch of the given stamp */
+    public static long toEpochNanos(Time time) {
+        return time.sec * NANOS_IN_SEC + time.nanosec;
+    }
+
+    /** Update given stamp with the current time */
+    public static void stamp(Time time) {
+        var epochNanos = epochNanos();
+        time.sec = (int) (epochNanos / NANOS_IN_SEC);
+        time.nanosec = (int) (epochNanos % NANOS_IN_SEC);
+    }
+}
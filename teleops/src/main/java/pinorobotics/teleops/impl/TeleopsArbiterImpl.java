@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+import pinorobotics.teleops.ArbiterStats;
+import pinorobotics.teleops.TeleopsArbiter;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * Sources put commands into their own {@link CommandSlot} and unpark the arbiter thread, which
+ * picks the winning source and forwards its latest command. The arbiter thread parks until the
+ * timeout of the winning source expires or any source receives new command, so switching between
+ * the sources costs single unpark and the scan of the (copy on write) array of sources.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class TeleopsArbiterImpl implements TeleopsArbiter {
+    private static final XLogger LOGGER = XLogger.getLogger(TeleopsArbiterImpl.class);
+
+    private TeleopsClient client;
+    private volatile ArbiterSource[] sources = new ArbiterSource[0];
+    private volatile ArbiterSource activeSource;
+    private LatencyRecorder forwardLatency = new LatencyRecorder();
+    private LatencyRecorder switchLatency = new LatencyRecorder();
+    private Thread thread;
+    private volatile boolean isClosed;
+    private volatile long forwarded;
+    private volatile long switches;
+
+    public TeleopsArbiterImpl(TeleopsClient client) {
+        this.client = client;
+        thread = new Thread(this::run, "teleops-arbiter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized TeleopsClient registerSource(String name, int priority, Duration timeout) {
+        Preconditions.isTrue(!isClosed, "Arbiter is closed");
+        Preconditions.isTrue(timeout.isPositive(), "Timeout must be positive");
+        var source = new ArbiterSource(this, name, priority, timeout);
+        var newSources = Arrays.copyOf(sources, sources.length + 1);
+        newSources[sources.length] = source;
+        sources = newSources;
+        LOGGER.fine("Registered source {0}", source);
+        return source;
+    }
+
+    synchronized void unregister(ArbiterSource source) {
+        sources = Arrays.stream(sources).filter(s -> s != source).toArray(ArbiterSource[]::new);
+        source.expiresNanos = System.nanoTime();
+        wakeUp();
+    }
+
+    void wakeUp() {
+        LockSupport.unpark(thread);
+    }
+
+    @Override
+    public Optional<String> getActiveSource() {
+        return Optional.ofNullable(activeSource).map(source -> source.name);
+    }
+
+    @Override
+    public ArbiterStats getStats() {
+        return new ArbiterStats(
+                forwarded, switches, forwardLatency.snapshot(), switchLatency.snapshot());
+    }
+
+    private void run() {
+        var command = new TeleopsCommand();
+        ArbiterSource current = null;
+        var forwardedVersion = 0L;
+        while (!isClosed) {
+            var now = System.nanoTime();
+            var winner = findWinner(now);
+            if (winner != current) {
+                // either current source is not active anymore or source with higher priority
+                // received the command
+                var triggerNanos =
+                        winner == null || current != null && current.expiresNanos - now <= 0
+                                ? current.expiresNanos
+                                : winner.receivedNanos();
+                LOGGER.fine("Active source changed from {0} to {1}", current, winner);
+                activeSource = winner;
+                switches++;
+                if (winner == null) stop(command);
+                else forwardedVersion = forward(winner, command);
+                switchLatency.record(Math.max(0, System.nanoTime() - triggerNanos));
+                current = winner;
+            } else if (winner != null && winner.mailbox.version() != forwardedVersion) {
+                forwardedVersion = forward(winner, command);
+            }
+            if (winner == null) LockSupport.park(this);
+            else LockSupport.parkNanos(this, winner.expiresNanos - System.nanoTime());
+        }
+    }
+
+    private ArbiterSource findWinner(long now) {
+        ArbiterSource winner = null;
+        for (var source : sources) {
+            if (source.expiresNanos - now <= 0) continue;
+            if (winner == null || source.priority > winner.priority) winner = source;
+        }
+        return winner;
+    }
+
+    /**
+     * @return version of the forwarded command
+     */
+    private long forward(ArbiterSource source, TeleopsCommand command) {
+        var version = source.mailbox.read(command);
+        try {
+            command.sendTo(client);
+            forwarded++;
+            forwardLatency.record(Math.max(0, System.nanoTime() - source.receivedNanos()));
+        } catch (Exception e) {
+            LOGGER.severe("Failed to forward command of the source " + source, e);
+        }
+        return version;
+    }
+
+    /** Send last forwarded command with zero velocities */
+    private void stop(TeleopsCommand command) {
+        if (command.type == null) return;
+        Arrays.fill(command.twist, 0);
+        Arrays.fill(command.jog, 0);
+        try {
+            command.sendTo(client);
+            forwarded++;
+        } catch (Exception e) {
+            LOGGER.severe("Failed to send zero velocity command", e);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        isClosed = true;
+        wakeUp();
+        thread.join();
+        client.close();
+    }
+}
@@ -26,23 +26,78 @@ import id.jrosmessages.geometry_msgs.TwistMessage;
 import id.jrosmessages.geometry_msgs.Vector3Message;
 import id.jrosmessages.primitives.Time;
 import id.jrosmessages.std_msgs.StringMessage;
+import id.xfunction.PreconditionException;
 import id.xfunction.Preconditions;
 import id.xfunction.logging.XLogger;
 import java.util.List;
-import java.util.stream.IntStream;
-import pinorobotics.teleops.TeleopsClient;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import pinorobotics.teleops.BackpressureSettings;
+import pinorobotics.teleops.BoundedTeleopsClient;
+import pinorobotics.teleops.SubmissionStats;
 
 /**
+ * Publishes movement commands without allocating new messages.
+ *
+ * <p>All messages are preallocated and reused in round-robin order (see {@link MessageRing}).
+ * {@link TopicSubmissionPublisher} buffers at most {@link
+ * TopicSubmissionPublisher#getMaxBufferCapacity()} messages per subscriber (and blocks submitter
+ * otherwise) so rings are sized to be larger than that.
+ *
+ * <p>Jog messages contain only the joints which are moved. Arrays for them are preallocated for
+ * each possible number of the joints, so single joint jog command costs the same regardless of the
+ * number of joints in the robot.
+ *
+ * <p>When {@link BackpressureSettings} are provided, messages are passed to the transport through
+ * {@link BoundedSubmitter} instead of being submitted directly.
+ *
  * @author aeon_flux aeon_flux@eclipso.ch
  */
-public class TeleopsClientImpl implements TeleopsClient {
+public class TeleopsClientImpl implements BoundedTeleopsClient {
     private static final XLogger LOGGER = XLogger.getLogger(TeleopsClientImpl.class);
-    private static final Vector3Message ZERO_VECTOR = new Vector3Message(0, 0, 0);
+
+    /**
+     * Extra messages on top of the transport buffer (or {@link BoundedSubmitter} queue): one which
+     * is currently processed by the transport and one which is being filled by the client
+     */
+    private static final int RING_RESERVE = 2;
+
     private TopicSubmissionPublisher<TwistStampedMessage> publisherTwist;
     private TopicSubmissionPublisher<JointJogMessage> publisherJog;
     private String frameName;
     private StringMessage[] joints;
 
+    /** Joint names arrays for the single joint jog commands, they are never modified */
+    private StringMessage[][] singleJoints;
+
+    private MessageRing<TwistStampedMessage> twistMessages;
+    private MessageRing<JogMessageSlot> jogMessages;
+    private BoundedSubmitter<TwistStampedMessage> twistSubmitter;
+    private BoundedSubmitter<JointJogMessage> jogSubmitter;
+
+    /** Messages which may not be reused yet, created once so that commands do not allocate */
+    private Predicate<TwistStampedMessage> isTwistHeld = message -> false;
+
+    private Predicate<JogMessageSlot> isJogHeld = slot -> false;
+    private long twistSubmitted, jogSubmitted;
+
+    /**
+     * Preallocated {@link JointJogMessage} together with the arrays for each possible number of the
+     * joints which are moved at once.
+     */
+    private class JogMessageSlot {
+        JointJogMessage message = new JointJogMessage().withHeader(newHeader());
+        StringMessage[][] jointNames = new StringMessage[joints.length + 1][];
+        double[][] velocities = new double[joints.length + 1][];
+
+        JogMessageSlot() {
+            for (int i = 0; i <= joints.length; i++) {
+                jointNames[i] = new StringMessage[i];
+                velocities[i] = new double[i];
+            }
+        }
+    }
+
     /**
      * @param client
      * @param frameName perform movements in a given frame
@@ -53,58 +108,166 @@ public class TeleopsClientImpl implements TeleopsClient {
             List<String> joints,
             String twistTopicName,
             String jogTopicName) {
+        this(client, frameName, joints, twistTopicName, jogTopicName, null);
+    }
+
+    /**
+     * @param client
+     * @param frameName perform movements in a given frame
+     * @param backpressureSettings settings for {@link BoundedSubmitter} or null to submit messages
+     *     directly to the transport
+     */
+    public TeleopsClientImpl(
+            JRosClient client,
+            String frameName,
+            List<String> joints,
+            String twistTopicName,
+            String jogTopicName,
+            BackpressureSettings backpressureSettings) {
         this.frameName = frameName;
         publisherTwist = new TopicSubmissionPublisher<>(TwistStampedMessage.class, twistTopicName);
         publisherJog = new TopicSubmissionPublisher<>(JointJogMessage.class, jogTopicName);
         this.joints =
                 joints.stream().map(j -> new StringMessage(j)).toArray(sz -> new StringMessage[sz]);
+        singleJoints = new StringMessage[this.joints.length][];
+        for (int i = 0; i < singleJoints.length; i++)
+            singleJoints[i] = new StringMessage[] {this.joints[i]};
+        var twistRingSize = publisherTwist.getMaxBufferCapacity() + RING_RESERVE;
+        var jogRingSize = publisherJog.getMaxBufferCapacity() + RING_RESERVE;
+        if (backpressureSettings != null) {
+            twistSubmitter = new BoundedSubmitter<>(publisherTwist, backpressureSettings);
+            jogSubmitter = new BoundedSubmitter<>(publisherJog, backpressureSettings);
+            // submitter may drop or merge commands without blocking the client, so messages
+            // which it holds are skipped explicitly instead of relying on the ring size
+            isTwistHeld = twistSubmitter::isHeld;
+            isJogHeld = slot -> jogSubmitter.isHeld(slot.message);
+            twistRingSize = backpressureSettings.capacity() + RING_RESERVE;
+            jogRingSize = twistRingSize;
+        }
+        twistMessages =
+                new MessageRing<>(
+                        twistRingSize,
+                        () ->
+                                new TwistStampedMessage()
+                                        .withHeader(newHeader())
+                                        .withTwist(
+                                                new TwistMessage()
+                                                        .withLinear(new Vector3Message())
+                                                        .withAngular(new Vector3Message())));
+        jogMessages = new MessageRing<>(jogRingSize, JogMessageSlot::new);
         client.publish(publisherTwist);
         client.publish(publisherJog);
     }
 
     @Override
-    public void move(double velX, double velY, double velZ) {
-        var message =
-                new TwistStampedMessage()
-                        .withHeader(
-                                new HeaderMessage().withStamp(Time.now()).withFrameId(frameName))
-                        .withTwist(
-                                new TwistMessage()
-                                        .withLinear(new Vector3Message(velX, velY, velZ))
-                                        .withAngular(ZERO_VECTOR));
-        LOGGER.info(message.toString());
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        var message = twistMessages.next(isTwistHeld);
+        StampClock.stamp(message.header.stamp);
+        var linear = message.twist.linear;
+        linear.x = velX;
+        linear.y = velY;
+        linear.z = velZ;
+        var angular = message.twist.angular;
+        angular.x = angVelX;
+        angular.y = angVelY;
+        angular.z = angVelZ;
+        if (LOGGER.isLoggable(Level.FINE)) LOGGER.fine(message.toString());
         // publishing message
-        publisherTwist.submit(message);
+        if (twistSubmitter != null) twistSubmitter.submit(message);
+        else {
+            publisherTwist.submit(message);
+            twistSubmitted++;
+        }
     }
 
     @Override
-    public void move(double... velocities) {
+    public synchronized void move(double... velocities) {
         Preconditions.equals(
                 joints.length,
                 velocities.length,
                 "mismatch between number of velocities and joints");
         // move only joints with non zero velocities
-        var jointIndices =
-                IntStream.range(0, velocities.length).filter(i -> velocities[i] != 0).toArray();
-        var filteredVelocities =
-                IntStream.of(jointIndices).mapToDouble(i -> velocities[i]).toArray();
-        var filteredJoints =
-                IntStream.of(jointIndices)
-                        .mapToObj(i -> joints[i])
-                        .toArray(sz -> new StringMessage[sz]);
-        var message =
-                new JointJogMessage()
-                        .withHeader(
-                                new HeaderMessage().withStamp(Time.now()).withFrameId(frameName))
-                        .withJointNames(filteredJoints)
-                        .withVelocities(filteredVelocities);
-        LOGGER.info(message.toString());
+        var count = 0;
+        for (int i = 0; i < velocities.length; i++) {
+            if (velocities[i] != 0) count++;
+        }
+        var slot = jogMessages.next(isJogHeld);
+        var filteredJoints = slot.jointNames[count];
+        var filteredVelocities = slot.velocities[count];
+        for (int i = 0, j = 0; i < velocities.length; i++) {
+            if (velocities[i] == 0) continue;
+            filteredJoints[j] = joints[i];
+            filteredVelocities[j] = velocities[i];
+            j++;
+        }
+        submitJog(slot, filteredJoints, filteredVelocities);
+    }
+
+    @Override
+    public synchronized void jog(int jointIndex, double velocity) {
+        checkJointIndex(jointIndex);
+        var slot = jogMessages.next(isJogHeld);
+        var velocities = slot.velocities[1];
+        velocities[0] = velocity;
+        submitJog(slot, singleJoints[jointIndex], velocities);
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        Preconditions.equals(
+                jointIndices.length,
+                velocities.length,
+                "mismatch between number of joint indices and velocities");
+        if (velocities.length > joints.length)
+            throw new PreconditionException("number of velocities exceeds number of joints");
+        var slot = jogMessages.next(isJogHeld);
+        var jointNames = slot.jointNames[jointIndices.length];
+        var jointVelocities = slot.velocities[jointIndices.length];
+        for (int i = 0; i < jointIndices.length; i++) {
+            checkJointIndex(jointIndices[i]);
+            jointNames[i] = joints[jointIndices[i]];
+        }
+        System.arraycopy(velocities, 0, jointVelocities, 0, velocities.length);
+        submitJog(slot, jointNames, jointVelocities);
+    }
+
+    private void checkJointIndex(int jointIndex) {
+        // varargs Preconditions.isTrue would allocate empty arguments array on each command
+        if (jointIndex < 0 || jointIndex >= joints.length)
+            throw new PreconditionException("joint index is out of range");
+    }
+
+    private void submitJog(JogMessageSlot slot, StringMessage[] jointNames, double[] velocities) {
+        var message = slot.message.withJointNames(jointNames).withVelocities(velocities);
+        StampClock.stamp(message.header.stamp);
+        if (LOGGER.isLoggable(Level.FINE)) LOGGER.fine(message.toString());
         // publishing message
-        publisherJog.submit(message);
+        if (jogSubmitter != null) jogSubmitter.submit(message);
+        else {
+            publisherJog.submit(message);
+            jogSubmitted++;
+        }
+    }
+
+    private HeaderMessage newHeader() {
+        return new HeaderMessage().withStamp(new Time()).withFrameId(frameName);
+    }
+
+    @Override
+    public SubmissionStats getSubmissionStats() {
+        if (twistSubmitter != null) return twistSubmitter.getStats().plus(jogSubmitter.getStats());
+        synchronized (this) {
+            return new SubmissionStats(twistSubmitted + jogSubmitted, 0, 0);
+        }
     }
 
     @Override
     public void close() throws Exception {
+        if (twistSubmitter != null) {
+            twistSubmitter.close();
+            jogSubmitter.close();
+        }
         publisherTwist.close();
         publisherJog.close();
     }
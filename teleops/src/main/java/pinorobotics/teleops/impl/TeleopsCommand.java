@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import java.util.Arrays;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
+
+/**
+ * Mutable holder of a single movement command.
+ *
+ * <p>Instances are reused to pass commands between threads without allocations. Not thread safe.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class TeleopsCommand {
+    /** Type of the command or null if command is empty */
+    public TeleopsCommandType type;
+
+    /**
+     * Linear (first 3) and angular (last 3) velocities of {@link TeleopsCommandType#TWIST} command
+     */
+    public final double[] twist = new double[6];
+
+    /**
+     * Joint velocities of {@link TeleopsCommandType#JOG} command. For sparse jog commands only
+     * velocities of the joints listed in {@link #jogIndices}.
+     */
+    public double[] jog = new double[0];
+
+    /** Indices of the joints of the sparse jog command */
+    public int[] jogIndices = new int[0];
+
+    /** True if jog command was sent with {@link TeleopsClient#jog(int[], double[])} */
+    public boolean isSparseJog;
+
+    public void setTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        type = TeleopsCommandType.TWIST;
+        twist[0] = velX;
+        twist[1] = velY;
+        twist[2] = velZ;
+        twist[3] = angVelX;
+        twist[4] = angVelY;
+        twist[5] = angVelZ;
+    }
+
+    public void setTwist(double[] velocities) {
+        type = TeleopsCommandType.TWIST;
+        System.arraycopy(velocities, 0, twist, 0, twist.length);
+    }
+
+    public void setJog(double[] velocities) {
+        type = TeleopsCommandType.JOG;
+        isSparseJog = false;
+        // number of joints does not change for the same client so array is allocated only once
+        if (jog.length != velocities.length) jog = new double[velocities.length];
+        System.arraycopy(velocities, 0, jog, 0, velocities.length);
+    }
+
+    public void setJog(int jointIndex, double velocity) {
+        type = TeleopsCommandType.JOG;
+        isSparseJog = true;
+        // dense jog commands resize only jog array, so both arrays are checked
+        if (jog.length != 1) jog = new double[1];
+        if (jogIndices.length != 1) jogIndices = new int[1];
+        jogIndices[0] = jointIndex;
+        jog[0] = velocity;
+    }
+
+    public void setJog(int[] jointIndices, double[] velocities) {
+        type = TeleopsCommandType.JOG;
+        isSparseJog = true;
+        // arrays are reallocated only when number of jogged joints changes
+        if (jog.length != velocities.length) jog = new double[velocities.length];
+        if (jogIndices.length != jointIndices.length) jogIndices = new int[jointIndices.length];
+        System.arraycopy(jointIndices, 0, jogIndices, 0, jogIndices.length);
+        System.arraycopy(velocities, 0, jog, 0, jog.length);
+    }
+
+    /** Check if this command is the twist command with the given velocities */
+    public boolean isTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        return type == TeleopsCommandType.TWIST
+                && twist[0] == velX
+                && twist[1] == velY
+                && twist[2] == velZ
+                && twist[3] == angVelX
+                && twist[4] == angVelY
+                && twist[5] == angVelZ;
+    }
+
+    /** Check if this command is the jog command for all joints with the given velocities */
+    public boolean isJog(double[] velocities) {
+        return type == TeleopsCommandType.JOG && !isSparseJog && Arrays.equals(jog, velocities);
+    }
+
+    /** Check if this command is the jog command for single joint with the given velocity */
+    public boolean isJog(int jointIndex, double velocity) {
+        return type == TeleopsCommandType.JOG
+                && isSparseJog
+                && jog.length == 1
+                && jogIndices[0] == jointIndex
+                && jog[0] == velocity;
+    }
+
+    /** Check if this command is the sparse jog command with the given joints and velocities */
+    public boolean isJog(int[] jointIndices, double[] velocities) {
+        return type == TeleopsCommandType.JOG
+                && isSparseJog
+                && Arrays.equals(jogIndices, jointIndices)
+                && Arrays.equals(jog, velocities);
+    }
+
+    /** Check if all velocities of this command are zero, empty command is also zero */
+    public boolean isZero() {
+        if (type == null) return true;
+        var velocities = type == TeleopsCommandType.TWIST ? twist : jog;
+        for (int i = 0; i < velocities.length; i++) {
+            if (velocities[i] != 0) return false;
+        }
+        return true;
+    }
+
+    public void copyFrom(TeleopsCommand other) {
+        switch (other.type) {
+            case TWIST -> setTwist(other.twist);
+            case JOG -> {
+                if (other.isSparseJog) setJog(other.jogIndices, other.jog);
+                else setJog(other.jog);
+            }
+            case null -> type = null;
+        }
+    }
+
+    /** Send this command to the given client. Empty commands are ignored. */
+    public void sendTo(TeleopsClient client) {
+        switch (type) {
+            case TWIST ->
+                    client.moveTwist(twist[0], twist[1], twist[2], twist[3], twist[4], twist[5]);
+            case JOG -> {
+                if (!isSparseJog) client.move(jog);
+                else if (jog.length == 1) client.jog(jogIndices[0], jog[0]);
+                else client.jog(jogIndices, jog);
+            }
+            case null -> {}
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import pinorobotics.teleops.TeleopsMetrics;
+
+/**
+ * Collects metrics of a single {@link MeteredTeleopsClientImpl} including the MoveIt Servo calls
+ * made by the clients it wraps.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class TeleopsMetricsRecorder {
+    private long startNanos = System.nanoTime();
+    final LongAdder twistCount = new LongAdder();
+    final LongAdder jogCount = new LongAdder();
+    final LongAdder errorCount = new LongAdder();
+    final LatencyRecorder publishLatency = new LatencyRecorder();
+    final LatencyRecorder startServoLatency = new LatencyRecorder();
+    final LatencyRecorder switchCommandTypeLatency = new LatencyRecorder();
+
+    public TeleopsMetrics snapshot() {
+        return new TeleopsMetrics(
+                Duration.ofNanos(System.nanoTime() - startNanos),
+                twistCount.sum(),
+                jogCount.sum(),
+                errorCount.sum(),
+                publishLatency.snapshot(),
+                startServoLatency.snapshot(),
+                switchCommandTypeLatency.snapshot());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import id.xfunction.Preconditions;
+import id.xfunction.logging.XLogger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.WatchdogTeleopsClient;
+
+/**
+ * Each command only records its time and copy of itself (no timers are created per command). All
+ * watchdog clients share single scheduler thread which checks them periodically with the quarter of
+ * their timeout, so the watchdog fires within 1.25 of the timeout.
+ *
+ * <p>Scheduler thread never calls the downstream client nor takes the lock under which commands are
+ * forwarded to it, so the client which blocks does not delay the other watchdogs. Zero velocity
+ * command is sent from the separate thread under that lock and only if no new command arrived since
+ * the watchdog fired, so it can never overtake the newer command.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class WatchdogTeleopsClientImpl implements WatchdogTeleopsClient {
+    private static final XLogger LOGGER = XLogger.getLogger(WatchdogTeleopsClientImpl.class);
+
+    private static class SchedulerHolder {
+        private static final ScheduledExecutorService SCHEDULER =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("teleops-watchdog").daemon().factory());
+    }
+
+    private TeleopsClient client;
+    private long timeoutNanos;
+    private ScheduledFuture<?> check;
+    private TeleopsCommand lastCommand = new TeleopsCommand();
+
+    /** Number of commands received, it identifies the last command for the scheduler thread */
+    private volatile long commandCount;
+
+    private volatile long lastCommandNanos;
+    private volatile boolean isMoving;
+
+    /** Number of the last command after which watchdog fired, used only by the scheduler thread */
+    private long firedCommand;
+
+    private volatile long firedCount;
+
+    public WatchdogTeleopsClientImpl(TeleopsClient client, Duration timeout) {
+        Preconditions.isTrue(timeout.isPositive(), "Timeout must be positive");
+        this.client = client;
+        timeoutNanos = timeout.toNanos();
+        var period = Math.max(1, timeoutNanos / 4);
+        check =
+                SchedulerHolder.SCHEDULER.scheduleAtFixedRate(
+                        this::check, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized void moveTwist(
+            double velX, double velY, double velZ, double angVelX, double angVelY, double angVelZ) {
+        client.moveTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        lastCommand.setTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+        touch();
+    }
+
+    @Override
+    public synchronized void move(double... velocities) {
+        client.move(velocities);
+        lastCommand.setJog(velocities);
+        touch();
+    }
+
+    @Override
+    public synchronized void jog(int jointIndex, double velocity) {
+        client.jog(jointIndex, velocity);
+        lastCommand.setJog(jointIndex, velocity);
+        touch();
+    }
+
+    @Override
+    public synchronized void jog(int[] jointIndices, double[] velocities) {
+        client.jog(jointIndices, velocities);
+        lastCommand.setJog(jointIndices, velocities);
+        touch();
+    }
+
+    @Override
+    public long getFiredCount() {
+        return firedCount;
+    }
+
+    private void touch() {
+        isMoving = !lastCommand.isZero();
+        lastCommandNanos = System.nanoTime();
+        commandCount++;
+    }
+
+    /** Runs in the scheduler thread */
+    private void check() {
+        var command = commandCount;
+        // robot is already stopped by the last command
+        if (command == firedCommand || !isMoving) return;
+        if (System.nanoTime() - lastCommandNanos < timeoutNanos) return;
+        firedCommand = command;
+        firedCount++;
+        LOGGER.warning("No commands received within the timeout, sending zero velocity command");
+        Thread.ofPlatform().name("teleops-watchdog-stop").daemon().start(() -> stop(command));
+    }
+
+    /**
+     * @param firedCommand number of the command after which watchdog fired
+     */
+    private synchronized void stop(long firedCommand) {
+        // newer command supersedes zero velocity command
+        if (commandCount != firedCommand) return;
+        Arrays.fill(lastCommand.twist, 0);
+        Arrays.fill(lastCommand.jog, 0);
+        isMoving = false;
+        try {
+            lastCommand.sendTo(client);
+        } catch (Exception e) {
+            LOGGER.severe("Failed to send zero velocity command", e);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        check.cancel(false);
+        client.close();
+    }
+}
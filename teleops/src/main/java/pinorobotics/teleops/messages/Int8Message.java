@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.messages;
+
+import id.jrosmessages.Message;
+import id.jrosmessages.MessageMetadata;
+
+/**
+ * Definition for std_msgs/Int8
+ *
+ * <p>MoveIt Servo in ROS2 Humble publishes its status code with this message.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+@MessageMetadata(
+        name = Int8Message.NAME,
+        fields = {"data"})
+public class Int8Message implements Message {
+
+    static final String NAME = "std_msgs/Int8";
+
+    public byte data;
+
+    public Int8Message withData(byte data) {
+        this.data = data;
+        return this;
+    }
+
+    @Override
+    public int hashCode() {
+        return Byte.hashCode(data);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Int8Message other && data == other.data;
+    }
+
+    @Override
+    public String toString() {
+        return "Int8Message[data=" + data + "]";
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.messages;
+
+import id.jrosmessages.Message;
+import id.jrosmessages.MessageMetadata;
+import id.jrosmessages.std_msgs.StringMessage;
+import java.util.Objects;
+
+/**
+ * Definition for moveit_msgs/ServoStatus
+ *
+ * <p>Status of MoveIt Servo published by ROS2 Jazzy and later releases.
+ *
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+@MessageMetadata(
+        name = ServoStatusMessage.NAME,
+        fields = {"code", "message"})
+public class ServoStatusMessage implements Message {
+
+    static final String NAME = "moveit_msgs/ServoStatus";
+
+    /** Status code (see moveit_servo::StatusCode) */
+    public byte code;
+
+    /** Human readable description of the status */
+    public StringMessage message = new StringMessage();
+
+    public ServoStatusMessage withCode(byte code) {
+        this.code = code;
+        return this;
+    }
+
+    public ServoStatusMessage withMessage(String message) {
+        this.message = new StringMessage(message);
+        return this;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, message);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ServoStatusMessage other
+                && code == other.code
+                && Objects.equals(message, other.message);
+    }
+
+    @Override
+    public String toString() {
+        return "ServoStatusMessage[code=" + code + ", message=" + message + "]";
+    }
+}
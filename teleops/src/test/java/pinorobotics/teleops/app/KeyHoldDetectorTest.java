@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.app;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class KeyHoldDetectorTest {
+    private static final long MS = 1_000_000;
+
+    @Test
+    public void test_tap_is_released_after_initial_delay() {
+        var detector = new KeyHoldDetector(Duration.ofMillis(700));
+        assertTrue(detector.onKey('w', 0));
+        assertEquals('w', detector.getHeldKey(600 * MS));
+        assertEquals(KeyHoldDetector.NO_KEY, detector.getHeldKey(700 * MS));
+    }
+
+    @Test
+    public void test_hold() {
+        var detector = new KeyHoldDetector(Duration.ofMillis(700));
+        assertTrue(detector.onKey('w', 0));
+        // key is not released while waiting for the first autorepeat
+        for (long t = 0; t < 500; t += 10) {
+            assertEquals('w', detector.getHeldKey(t * MS));
+        }
+        assertFalse(detector.onKey('w', 500 * MS));
+        assertEquals('w', detector.getHeldKey(550 * MS));
+        for (long t = 530; t < 1000; t += 30) {
+            assertFalse(detector.onKey('w', t * MS));
+        }
+        assertEquals('w', detector.getHeldKey(1000 * MS));
+        assertEquals(KeyHoldDetector.NO_KEY, detector.getHeldKey(1100 * MS));
+    }
+
+    @Test
+    public void test_press_after_initial_delay_is_new_press() {
+        var detector = new KeyHoldDetector(Duration.ofMillis(700));
+        detector.onKey('w', 0);
+        detector.onKey('w', 500 * MS);
+        detector.onKey('w', 530 * MS);
+        // learned initial delay is 625ms
+        assertTrue(detector.onKey('w', 1000 * MS));
+        assertEquals(KeyHoldDetector.NO_KEY, detector.getHeldKey(1625 * MS));
+        assertTrue(detector.onKey('w', 1700 * MS));
+        assertFalse(detector.onKey('w', 2200 * MS));
+        assertFalse(detector.onKey('w', 2230 * MS));
+    }
+}
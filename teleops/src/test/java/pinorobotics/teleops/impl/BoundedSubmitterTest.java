@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.jros2messages.geometry_msgs.TwistStampedMessage;
+import id.jrosclient.TopicSubmissionPublisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import org.junit.jupiter.api.Test;
+import pinorobotics.teleops.BackpressureSettings;
+import pinorobotics.teleops.OverflowPolicy;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class BoundedSubmitterTest {
+
+    /** Transport which never consumes the messages */
+    private static class StalledSubscriber implements Subscriber<TwistStampedMessage> {
+        @Override
+        public void onSubscribe(Subscription subscription) {}
+
+        @Override
+        public void onNext(TwistStampedMessage item) {}
+
+        @Override
+        public void onError(Throwable throwable) {}
+
+        @Override
+        public void onComplete() {}
+    }
+
+    @Test
+    public void test_ring_does_not_reuse_messages_held_by_stalled_transport() throws Exception {
+        for (var policy :
+                new OverflowPolicy[] {
+                    OverflowPolicy.DROP_OLDEST, OverflowPolicy.COALESCE_TO_LATEST
+                }) {
+            var publisher = new TopicSubmissionPublisher<>(TwistStampedMessage.class, "/twist");
+            publisher.subscribe(new StalledSubscriber());
+            var settings = new BackpressureSettings(policy, 1);
+            var submitter = new BoundedSubmitter<>(publisher, settings);
+            var ring = new MessageRing<>(settings.capacity() + 2, TwistStampedMessage::new);
+            var first = ring.next(submitter::isHeld);
+            submitter.submit(first);
+            while (publisher.estimateMaximumLag() == 0) Thread.onSpinWait();
+            assertTrue(submitter.isHeld(first));
+            TwistStampedMessage last = null;
+            for (int i = 0; i < 100; i++) {
+                var message = ring.next(submitter::isHeld);
+                assertTrue(message != first, policy.toString());
+                submitter.submit(message);
+                last = message;
+            }
+            assertTrue(submitter.isHeld(last));
+            assertEquals(1L, submitter.getStats().submitted());
+            submitter.close();
+            publisher.close();
+            assertFalse(submitter.isHeld(first));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class CommandLogReaderTest {
+
+    private static CommandLogReader newReader(byte kind, int numOfJoints) throws IOException {
+        var buffer =
+                ByteBuffer.allocate(
+                                Integer.BYTES + Short.BYTES + 2 * Long.BYTES + 1 + Integer.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN)
+                        .putInt(CommandLogWriter.MAGIC)
+                        .putShort(CommandLogWriter.VERSION)
+                        .putLong(0)
+                        .putLong(0)
+                        .put(kind)
+                        .putInt(numOfJoints);
+        return new CommandLogReader(Channels.newChannel(new ByteArrayInputStream(buffer.array())));
+    }
+
+    @Test
+    public void test_corrupt_number_of_joints() throws Exception {
+        for (var kind : new byte[] {CommandLogWriter.JOG, CommandLogWriter.SPARSE_JOG}) {
+            for (var n : new int[] {-1, Integer.MIN_VALUE, CommandLogWriter.BUFFER_SIZE}) {
+                try (var reader = newReader(kind, n)) {
+                    var e =
+                            assertThrows(
+                                    IOException.class, () -> reader.read(new TeleopsCommand()));
+                    assertEquals(
+                            "Corrupt command log: invalid number of joints " + n, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test_incomplete_record() throws Exception {
+        try (var reader = newReader(CommandLogWriter.JOG, 2)) {
+            assertEquals(-1L, reader.read(new TeleopsCommand()));
+        }
+    }
+}
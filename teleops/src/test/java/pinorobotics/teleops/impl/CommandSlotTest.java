@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import pinorobotics.teleops.TeleopsCommandType;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class CommandSlotTest {
+
+    @Test
+    public void test_dense_sparse_dense_jog_of_same_length() {
+        var slot = new CommandSlot();
+        var out = new TeleopsCommand();
+
+        slot.putJog(new double[] {1, 2});
+        var version = slot.read(out);
+        assertTrue(out.isJog(new double[] {1, 2}));
+
+        slot.putJog(new int[] {0, 1}, new double[] {0, 0});
+        assertTrue(slot.read(out) > version);
+        assertEquals(TeleopsCommandType.JOG, out.type);
+        assertTrue(out.isSparseJog);
+        assertArrayEquals(new int[] {0, 1}, out.jogIndices);
+        assertArrayEquals(new double[] {0, 0}, out.jog);
+
+        slot.putJog(new double[] {3, 4});
+        slot.read(out);
+        assertTrue(out.isJog(new double[] {3, 4}));
+        assertFalse(out.isSparseJog);
+
+        slot.putJog(1, 5);
+        slot.read(out);
+        assertTrue(out.isJog(1, 5));
+    }
+
+    @Test
+    public void test_sparse_jog_after_dense_jog() {
+        var command = new TeleopsCommand();
+        command.setJog(new double[] {1});
+        command.setJog(new int[] {0}, new double[] {0});
+        assertArrayEquals(new int[] {0}, command.jogIndices);
+        command.setJog(new double[] {1, 2, 3});
+        command.setJog(new int[] {0, 1, 2}, new double[] {4, 5, 6});
+        assertTrue(command.isJog(new int[] {0, 1, 2}, new double[] {4, 5, 6}));
+    }
+}
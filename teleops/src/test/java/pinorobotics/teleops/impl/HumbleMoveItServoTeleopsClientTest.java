@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import pinorobotics.jros2moveit.JRos2MoveItServoClient.CommandType;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class HumbleMoveItServoTeleopsClientTest {
+
+    @Test
+    public void test_start_is_retried_after_background_failure() throws Exception {
+        var attempts = new AtomicInteger();
+        var canFail = new CountDownLatch(1);
+        var control =
+                new MoveItServoControl() {
+                    @Override
+                    public void startServo() {
+                        if (attempts.incrementAndGet() > 1) return;
+                        try {
+                            canFail.await();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                        throw new IllegalStateException("Servo is not available");
+                    }
+
+                    @Override
+                    public void switchCommandType(CommandType commandType) {}
+
+                    @Override
+                    public void close() {}
+                };
+        var moves = new AtomicInteger();
+        var client =
+                new TeleopsClient() {
+                    @Override
+                    public void move(double... velocities) {
+                        moves.incrementAndGet();
+                    }
+
+                    @Override
+                    public void moveTwist(
+                            double velX,
+                            double velY,
+                            double velZ,
+                            double angVelX,
+                            double angVelY,
+                            double angVelZ) {
+                        moves.incrementAndGet();
+                    }
+
+                    @Override
+                    public void close() {}
+                };
+        var servoClient = HumbleMoveItServoTeleopsClient.startServoAsync(client, control);
+        var firstAttempt = servoClient.getServoReady();
+        canFail.countDown();
+        assertThrows(CompletionException.class, firstAttempt::join);
+
+        servoClient.move(1, 0, 0);
+        assertEquals(2, attempts.get());
+        assertEquals(1, moves.get());
+        assertTrue(servoClient.getServoReady().isDone());
+        servoClient.move(1, 0, 0);
+        assertEquals(2, attempts.get());
+        servoClient.close();
+    }
+}
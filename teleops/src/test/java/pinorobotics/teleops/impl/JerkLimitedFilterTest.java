@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class JerkLimitedFilterTest {
+
+    /** Jerk is not limited by default in the app */
+    @Test
+    public void test_infinite_jerk() {
+        var filter =
+                new JerkLimitedFilter(new double[] {10}, new double[] {Double.POSITIVE_INFINITY});
+        var velocities = filter.step(new double[] {1}, 0.01);
+        assertEquals(0.1, velocities[0], 1e-9);
+        // target is changed to the current velocity while still accelerating
+        velocities = filter.step(new double[] {velocities[0]}, 0.01);
+        assertEquals(0.1, velocities[0], 1e-9);
+        for (int i = 0; i < 100; i++) {
+            velocities = filter.step(new double[] {i % 2 == 0 ? -1 : 0.5}, 0.01);
+            assertTrue(Double.isFinite(velocities[0]));
+        }
+        for (int i = 0; i < 100; i++) filter.step(new double[] {0}, 0.01);
+        assertTrue(filter.isStopped());
+    }
+}
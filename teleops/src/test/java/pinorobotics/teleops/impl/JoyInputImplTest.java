@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import pinorobotics.teleops.JoyMapping;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
+import pinorobotics.teleops.messages.JoyMessage;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class JoyInputImplTest {
+    private static final int JOG_MODE_BUTTON = 5;
+
+    private static class RecordingClient implements TeleopsClient {
+        List<TeleopsCommand> commands = new ArrayList<>();
+
+        @Override
+        public void moveTwist(
+                double velX,
+                double velY,
+                double velZ,
+                double angVelX,
+                double angVelY,
+                double angVelZ) {
+            var command = new TeleopsCommand();
+            command.setTwist(velX, velY, velZ, angVelX, angVelY, angVelZ);
+            commands.add(command);
+        }
+
+        @Override
+        public void move(double... velocities) {
+            var command = new TeleopsCommand();
+            command.setJog(velocities);
+            commands.add(command);
+        }
+
+        @Override
+        public void jog(int[] jointIndices, double[] velocities) {
+            var command = new TeleopsCommand();
+            command.setJog(jointIndices, velocities);
+            commands.add(command);
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /** Default gamepad mapping with deadzone 0.1 and jog mode on button 5 */
+    private static JoyMapping mapping() {
+        return new JoyMapping(6, 1, 2, 0.5);
+    }
+
+    private static JoyMessage joy(boolean isJogMode, float... axes) {
+        var buttons = new int[JOG_MODE_BUTTON + 1];
+        buttons[JOG_MODE_BUTTON] = isJogMode ? 1 : 0;
+        return new JoyMessage().withAxes(axes).withButtons(buttons);
+    }
+
+    @Test
+    public void test_twist_axes() {
+        var client = new RecordingClient();
+        var input = new JoyInputImpl(client, mapping());
+        // left stick x (axis 1) outside deadzone, y (axis 0) inside, right stick x (axis 3) full
+        input.process(joy(false, 0.05f, 0.55f, 0, -1, 0, 0));
+        assertEquals(1, client.commands.size());
+        var command = client.commands.getFirst();
+        assertEquals(TeleopsCommandType.TWIST, command.type);
+        assertArrayEquals(new double[] {0.5, 0, 0, 0, 0, -2}, command.twist, 1e-6);
+        assertEquals(1, input.getCommandCount());
+    }
+
+    @Test
+    public void test_deadzone_does_not_send_commands() {
+        var client = new RecordingClient();
+        var input = new JoyInputImpl(client, mapping());
+        input.process(joy(false, 0.09f, -0.05f, 0, 0.09f, -0.09f, 0));
+        input.process(joy(false, 0, 0, 0, 0, 0, 0));
+        assertTrue(client.commands.isEmpty());
+        assertEquals(0, input.getCommandCount());
+    }
+
+    @Test
+    public void test_zero_twist_is_sent_once_on_release() {
+        var client = new RecordingClient();
+        var input = new JoyInputImpl(client, mapping());
+        input.process(joy(false, 0, 1, 0, 0, 0, 0));
+        input.process(joy(false, 0, 0.05f, 0, 0, 0, 0));
+        input.process(joy(false, 0, 0, 0, 0, 0, 0));
+        assertEquals(2, client.commands.size());
+        var stop = client.commands.getLast();
+        assertEquals(TeleopsCommandType.TWIST, stop.type);
+        assertTrue(stop.isZero());
+    }
+
+    @Test
+    public void test_jog_mode() {
+        var client = new RecordingClient();
+        var input = new JoyInputImpl(client, mapping());
+        // in jog mode sticks are mapped to the first 4 joints and twist is not sent
+        input.process(joy(true, 1, 0, 0, 0, -0.55f, 0));
+        assertEquals(1, client.commands.size());
+        var command = client.commands.getFirst();
+        assertEquals(TeleopsCommandType.JOG, command.type);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, command.jogIndices);
+        assertArrayEquals(new double[] {0.5, 0, 0, -0.25}, command.jog, 1e-6);
+        // releasing jog mode button stops the joints
+        input.process(joy(false, 0, 0, 0, 0, 0, 0));
+        assertEquals(2, client.commands.size());
+        var stop = client.commands.getLast();
+        assertEquals(TeleopsCommandType.JOG, stop.type);
+        assertArrayEquals(new int[] {0, 1, 2, 3}, stop.jogIndices);
+        assertTrue(stop.isZero());
+        input.process(joy(false, 0, 0, 0, 0, 0, 0));
+        assertEquals(2, client.commands.size());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.xfunction.PreconditionException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import pinorobotics.teleops.SmoothingLimits;
+import pinorobotics.teleops.TeleopsClient;
+import pinorobotics.teleops.TeleopsCommandType;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class SmoothingTeleopsClientTest {
+
+    private static class RecordingClient implements TeleopsClient {
+        List<TeleopsCommandType> types = new ArrayList<>();
+        List<Double> velocities = new ArrayList<>();
+
+        @Override
+        public void moveTwist(
+                double velX,
+                double velY,
+                double velZ,
+                double angVelX,
+                double angVelY,
+                double angVelZ) {
+            types.add(TeleopsCommandType.TWIST);
+            velocities.add(velX);
+        }
+
+        @Override
+        public void move(double... velocities) {
+            types.add(TeleopsCommandType.JOG);
+            this.velocities.add(velocities[0]);
+        }
+
+        @Override
+        public void jog(int[] jointIndices, double[] velocities) {
+            types.add(TeleopsCommandType.JOG);
+            this.velocities.add(velocities.length == 0 ? 0 : velocities[0]);
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    @Test
+    public void test_twist_is_decelerated_before_switching_to_jog() throws Exception {
+        var recorder = new RecordingClient();
+        var client = new SmoothingTeleopsClient(recorder, new SmoothingLimits(2, 10, 1000));
+        for (int i = 0; i < 20; i++) {
+            client.moveTwist(1, 0, 0, 0, 0, 0);
+            Thread.sleep(10);
+        }
+        var twistVelocity = recorder.velocities.getLast();
+        assertTrue(twistVelocity > 0);
+        var firstJog = recorder.types.size();
+        for (int i = 0; i < 100; i++) {
+            client.jog(0, 1);
+            Thread.sleep(10);
+        }
+        // twist keeps being published with decreasing velocity until it reaches zero
+        assertEquals(TeleopsCommandType.TWIST, recorder.types.get(firstJog));
+        var lastTwist = recorder.types.lastIndexOf(TeleopsCommandType.TWIST);
+        assertTrue(lastTwist > firstJog);
+        assertEquals(0.0, recorder.velocities.get(lastTwist).doubleValue());
+        for (int i = firstJog; i < lastTwist; i++) {
+            assertTrue(recorder.velocities.get(i) <= twistVelocity);
+            twistVelocity = recorder.velocities.get(i);
+        }
+        assertEquals(TeleopsCommandType.JOG, recorder.types.getLast());
+        assertTrue(recorder.velocities.getLast() > 0);
+        client.close();
+    }
+
+    @Test
+    public void test_jog_indices_are_checked() throws Exception {
+        var recorder = new RecordingClient();
+        var client = new SmoothingTeleopsClient(recorder, new SmoothingLimits(2, 10, 1000));
+        assertThrows(PreconditionException.class, () -> client.jog(2, 1));
+        assertThrows(PreconditionException.class, () -> client.jog(-1, 1));
+        assertThrows(
+                PreconditionException.class,
+                () -> client.jog(new int[] {0, 2}, new double[] {1, 1}));
+        assertThrows(
+                PreconditionException.class, () -> client.jog(new int[] {0}, new double[] {1, 1}));
+        assertTrue(recorder.types.isEmpty());
+        client.close();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import id.jrosclient.JRosClient;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class TeleopsClientImplTest {
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int ITERATIONS = 10_000;
+
+    /**
+     * ROS client which accepts publishers but never subscribes to them, so that only allocations of
+     * {@link TeleopsClientImpl} itself are measured (and not the ones of the transport)
+     */
+    private static JRosClient newRosClient() {
+        return (JRosClient)
+                Proxy.newProxyInstance(
+                        JRosClient.class.getClassLoader(),
+                        new Class<?>[] {JRosClient.class},
+                        (proxy, method, args) -> null);
+    }
+
+    @Test
+    public void test_steady_state_does_not_allocate() throws Exception {
+        var joints = List.of("j1", "j2", "j3", "j4", "j5", "j6");
+        var velocities = new double[] {0, 1, 0, -1, 0, 0.5};
+        var indices = new int[] {1, 4};
+        var sparseVelocities = new double[] {1, -1};
+        try (var client = new TeleopsClientImpl(newRosClient(), "base", joints, "/t", "/j")) {
+            Runnable twist = () -> client.moveTwist(1, 2, 3, 4, 5, 6);
+            Runnable jog = () -> client.move(velocities);
+            Runnable singleJog = () -> client.jog(2, 1);
+            Runnable sparseJog = () -> client.jog(indices, sparseVelocities);
+            for (var command : List.of(twist, jog, singleJog, sparseJog)) {
+                for (int i = 0; i < WARMUP_ITERATIONS; i++) command.run();
+            }
+            assertEquals(0, allocatedBytes(twist), "twist");
+            assertEquals(0, allocatedBytes(jog), "dense jog");
+            assertEquals(0, allocatedBytes(singleJog), "single joint jog");
+            assertEquals(0, allocatedBytes(sparseJog), "sparse jog");
+        }
+    }
+
+    private static long allocatedBytes(Runnable command) {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        var threadId = Thread.currentThread().threadId();
+        // cost of the measurement itself
+        var baseline =
+                -threadBean.getThreadAllocatedBytes(threadId)
+                        + threadBean.getThreadAllocatedBytes(threadId);
+        var start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) command.run();
+        return threadBean.getThreadAllocatedBytes(threadId) - start - baseline;
+    }
+}
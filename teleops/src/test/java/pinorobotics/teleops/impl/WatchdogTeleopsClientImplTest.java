@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 pinorobotics
+ * 
+ * Website: https://github.com/pinorobotics/teleops
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package pinorobotics.teleops.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import pinorobotics.teleops.TeleopsClient;
+
+/**
+ * @author aeon_flux aeon_flux@eclipso.ch
+ */
+public class WatchdogTeleopsClientImplTest {
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+
+    private static class StopCounter implements TeleopsClient {
+        CountDownLatch stopped = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(0);
+        volatile int stops;
+
+        @Override
+        public void moveTwist(
+                double velX,
+                double velY,
+                double velZ,
+                double angVelX,
+                double angVelY,
+                double angVelZ) {
+            if (velX != 0) return;
+            stops++;
+            stopped.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void move(double... velocities) {}
+
+        @Override
+        public void close() {}
+    }
+
+    @Test
+    public void test_fires_once_after_timeout() throws Exception {
+        var client = new StopCounter();
+        try (var watchdog = new WatchdogTeleopsClientImpl(client, TIMEOUT)) {
+            watchdog.moveTwist(1, 0, 0, 0, 0, 0);
+            assertTrue(client.stopped.await(1, TimeUnit.SECONDS));
+            Thread.sleep(4 * TIMEOUT.toMillis());
+            assertEquals(1, client.stops);
+            assertEquals(1L, watchdog.getFiredCount());
+        }
+    }
+
+    @Test
+    public void test_does_not_fire_when_last_command_is_zero() throws Exception {
+        var client = new StopCounter();
+        try (var watchdog = new WatchdogTeleopsClientImpl(client, TIMEOUT)) {
+            watchdog.moveTwist(1, 0, 0, 0, 0, 0);
+            watchdog.moveTwist(0, 0, 0, 0, 0, 0);
+            Thread.sleep(4 * TIMEOUT.toMillis());
+            assertEquals(1, client.stops);
+            assertEquals(0L, watchdog.getFiredCount());
+        }
+    }
+
+    @Test
+    public void test_blocked_client_does_not_delay_other_watchdogs() throws Exception {
+        var blocked = new StopCounter();
+        blocked.unblock = new CountDownLatch(1);
+        var client = new StopCounter();
+        try (var blockedWatchdog = new WatchdogTeleopsClientImpl(blocked, TIMEOUT);
+                var watchdog = new WatchdogTeleopsClientImpl(client, TIMEOUT)) {
+            blockedWatchdog.moveTwist(1, 0, 0, 0, 0, 0);
+            assertTrue(blocked.stopped.await(1, TimeUnit.SECONDS));
+            // blocked client holds the lock of its watchdog
+            Thread.ofPlatform().daemon().start(() -> blockedWatchdog.moveTwist(1, 0, 0, 0, 0, 0));
+            watchdog.moveTwist(1, 0, 0, 0, 0, 0);
+            assertTrue(client.stopped.await(1, TimeUnit.SECONDS));
+            blocked.unblock.countDown();
+        }
+    }
+}